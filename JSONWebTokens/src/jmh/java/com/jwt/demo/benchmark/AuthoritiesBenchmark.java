@@ -0,0 +1,78 @@
+package com.jwt.demo.benchmark;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.jwt.demo.security.AuthorityRegistry;
+
+/**
+ * 권한 클레임의 직렬화(join)와 역직렬화(split)를 측정합니다.
+ * splitClaim/joinClaim은 요청마다 문자열을 나누고 SimpleGrantedAuthority를 만들던 기존 방식이며,
+ * 나머지는 AuthorityRegistry의 공유 인스턴스와 비트마스크 변환표를 사용하는 현재 방식입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthoritiesBenchmark {
+
+    private AuthorityRegistry registry;
+    private String claim; // auth 클레임 값 (상수가 아닌 필드로 두어 JIT의 상수 접힘을 막음)
+    private Collection<GrantedAuthority> authorities;
+    private long mask;
+
+    @Setup
+    public void setUp() {
+        registry = BenchmarkFixtures.authorityRegistry();
+        claim = new String(BenchmarkFixtures.AUTHORITIES_CLAIM); // 레지스트리가 보관한 문자열과 다른 인스턴스
+        authorities = registry.parse(claim);
+        mask = registry.encode(authorities);
+    }
+
+    @Benchmark
+    public List<SimpleGrantedAuthority> splitClaim() {
+        return Arrays.stream(claim.split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> parseClaim() {
+        return registry.parse(claim);
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> decodeMask() {
+        return registry.decode(mask);
+    }
+
+    @Benchmark
+    public String joinClaim() {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+    }
+
+    @Benchmark
+    public long encodeMask() {
+        return registry.encode(authorities);
+    }
+}
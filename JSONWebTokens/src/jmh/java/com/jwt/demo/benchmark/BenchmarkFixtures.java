@@ -0,0 +1,215 @@
+package com.jwt.demo.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jwt.demo.entities.Authority;
+import com.jwt.demo.jwt.AuthMetrics;
+import com.jwt.demo.jwt.RejectedTokenCache;
+import com.jwt.demo.jwt.SigningKeyRing;
+import com.jwt.demo.jwt.TokenProvider;
+import com.jwt.demo.jwt.TokenUserPrincipal;
+import com.jwt.demo.jwt.VerifiedClaims;
+import com.jwt.demo.jwt.VerifiedTokenCache;
+import com.jwt.demo.repository.AuthorityRepository;
+import com.jwt.demo.security.AuthorityRegistry;
+import com.jwt.demo.security.TokenValidationPipeline;
+import com.jwt.demo.security.TokenValidationStages;
+import com.jwt.demo.service.BlacklistWriter;
+import com.jwt.demo.service.LocalRevocationChannel;
+import com.jwt.demo.service.RevocationCache;
+import com.jwt.demo.service.TokenBlacklistService;
+import com.jwt.demo.service.TokenEpochService;
+import com.jwt.demo.util.TokenDigest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 벤치마크에서 사용하는 객체들을 스프링 컨텍스트 없이 application.yml의 기본값과 같은 설정으로 만듭니다.
+ */
+final class BenchmarkFixtures {
+
+    // application.yml의 jwt.secret과 같은 길이(512비트 이상)의 키
+    static final String SECRET = "a2FyaW10b2thcmltdG9rYXJpbXRva2FyaW10b2thcmltdG9rYXJpbXRva2FyaW10b2thcmltdG9rYXJpbXRva2FyaW10b2thcmltdG9rYXJpbXRva2FyaW10b2thcmltdG9rYXJpbXRva2FyaW10b2thcmltdG9rYXJpbQ==";
+    static final String AUTHORITIES_CLAIM = "ROLE_USER,ROLE_ADMIN"; // admin 사용자의 auth 클레임
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * data.sql과 같은 권한 구성(ROLE_USER=0, ROLE_ADMIN=1)으로 초기화된 권한 레지스트리를 만듭니다.
+     */
+    static AuthorityRegistry authorityRegistry() {
+        List<Authority> authorities = List.of(
+                Authority.builder().authorityName("ROLE_USER").authorityBit(0).build(),
+                Authority.builder().authorityName("ROLE_ADMIN").authorityBit(1).build());
+        // preload()가 사용하는 findAll만 구현한 리포지토리
+        AuthorityRepository repository = (AuthorityRepository) Proxy.newProxyInstance(
+                AuthorityRepository.class.getClassLoader(), new Class<?>[] { AuthorityRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> authorities;
+                    case "toString" -> "AuthorityRepository(benchmark)";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        AuthorityRegistry registry = new AuthorityRegistry(repository);
+        registry.preload();
+        return registry;
+    }
+
+    /**
+     * TokenProvider를 만듭니다.
+     * @param authoritiesClaimFormat 권한 클레임 형식 (string 또는 bitmask)
+     * @param compactVerifier 전용 검증기 사용 여부
+     * @param cacheVerified false이면 검증 결과(성공과 실패 모두)를 캐시하지 않아 매번 서명을 검증합니다.
+     */
+    static TokenProvider tokenProvider(String authoritiesClaimFormat, boolean compactVerifier, boolean cacheVerified,
+                                       AuthorityRegistry registry) {
+        TokenProvider tokenProvider = new TokenProvider(SECRET, 180, 1800, authoritiesClaimFormat, compactVerifier, 4096, true);
+        tokenProvider.afterPropertiesSet();
+        ReflectionTestUtils.setField(tokenProvider, "verifiedTokenCache",
+                cacheVerified ? new VerifiedTokenCache(10_000) : new NoOpVerifiedTokenCache());
+        ReflectionTestUtils.setField(tokenProvider, "rejectedTokenCache",
+                cacheVerified ? new RejectedTokenCache(new SimpleMeterRegistry(), 10_000, 300) : new NoOpRejectedTokenCache());
+        ReflectionTestUtils.setField(tokenProvider, "tokenEpochService", tokenEpochService());
+        ReflectionTestUtils.setField(tokenProvider, "signingKeyRing", signingKeyRing("HS512"));
+        ReflectionTestUtils.setField(tokenProvider, "authorityRegistry", registry);
+        ReflectionTestUtils.setField(tokenProvider, "authMetrics", authMetrics());
+        return tokenProvider;
+    }
+
+    /**
+     * 서명 키 목록을 만듭니다. ES256이면 내장 데이터베이스에 키를 하나 만들어 둡니다.
+     * @param algorithm 서명 알고리즘 (HS512 또는 ES256)
+     */
+    static SigningKeyRing signingKeyRing(String algorithm) {
+        JdbcTemplate jdbcTemplate = "ES256".equals(algorithm) ? new JdbcTemplate(embeddedDatabase("signing")) : null;
+        SigningKeyRing signingKeyRing = new SigningKeyRing(jdbcTemplate, new SimpleMeterRegistry(), algorithm,
+                86400, 600, 180, 1800, SECRET, "");
+        signingKeyRing.afterPropertiesSet();
+        return signingKeyRing;
+    }
+
+    /**
+     * 세대가 기록된 사용자가 없는(모든 사용자 세대 0) 상태로 읽기를 마친 TokenEpochService를 만듭니다.
+     * revokeAll을 호출하지 않으므로 리프레시 토큰 리포지토리는 사용하지 않습니다.
+     */
+    static TokenEpochService tokenEpochService() {
+        TokenEpochService service = new TokenEpochService(new JdbcTemplate(embeddedDatabase("epoch")), null,
+                new SimpleMeterRegistry(), 5000);
+        service.warmUp();
+        return service;
+    }
+
+    /**
+     * 애플리케이션과 같은 인증 메트릭을 메모리 레지스트리에 기록합니다. (기록 비용도 측정에 포함됨)
+     */
+    static AuthMetrics authMetrics() {
+        return new AuthMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * admin 사용자(ROLE_USER, ROLE_ADMIN)로 로그인한 인증 객체를 만듭니다. (발급 토큰에 uid/nick 클레임 포함)
+     */
+    static Authentication authentication(AuthorityRegistry registry) {
+        List<GrantedAuthority> authorities = registry.parse(AUTHORITIES_CLAIM);
+        return new UsernamePasswordAuthenticationToken(
+                new TokenUserPrincipal("admin", "", authorities, 1L, "admin"), "", authorities);
+    }
+
+    /**
+     * schema.sql로 초기화한 내장 H2 데이터베이스(MySQL 호환 모드)를 만듭니다.
+     * @param name 데이터베이스 이름 (벤치마크마다 분리)
+     */
+    static DataSource embeddedDatabase(String name) {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * application.yml의 기본값(동기 저장, 단일 노드)으로 TokenBlacklistService를 만듭니다.
+     * @param warm true이면 블룸 필터를 채워 두고, false이면 모든 조회를 데이터베이스로 처리하는 시작 직후 상태로 둡니다.
+     */
+    static TokenBlacklistService blacklistService(JdbcTemplate jdbcTemplate, boolean warm) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RevocationCache revocationCache = new RevocationCache(100_000, 0.01, 10_000, meterRegistry);
+        BlacklistWriter blacklistWriter = new BlacklistWriter(jdbcTemplate, meterRegistry, false, 500, 200, 100_000, 10_000);
+        TokenBlacklistService service = new TokenBlacklistService(jdbcTemplate, revocationCache, blacklistWriter,
+                new LocalRevocationChannel(), meterRegistry);
+        if (warm) {
+            service.rebuildFilter();
+        }
+        return service;
+    }
+
+    /**
+     * 애플리케이션과 같은 기본 검증 단계로 TokenValidationPipeline을 만듭니다.
+     */
+    static TokenValidationPipeline validationPipeline(TokenProvider tokenProvider, TokenBlacklistService blacklistService) {
+        TokenValidationStages stages = new TokenValidationStages();
+        TokenEpochService epochService = (TokenEpochService) ReflectionTestUtils.getField(tokenProvider, "tokenEpochService");
+        return new TokenValidationPipeline(List.of(
+                stages.formatStage(tokenProvider),
+                stages.cacheStage(tokenProvider),
+                stages.expiryStage(tokenProvider),
+                stages.signatureStage(tokenProvider),
+                stages.epochStage(epochService),
+                stages.localRevocationStage(blacklistService),
+                stages.remoteRevocationStage(blacklistService)), authMetrics());
+    }
+
+    /**
+     * 아무것도 보관하지 않는 검증 결과 캐시입니다. 캐시 적중 없이 서명 검증 비용을 측정할 때 사용합니다.
+     */
+    private static final class NoOpVerifiedTokenCache extends VerifiedTokenCache {
+
+        NoOpVerifiedTokenCache() {
+            super(0);
+        }
+
+        @Override
+        public VerifiedClaims get(TokenDigest digest) {
+            return null;
+        }
+
+        @Override
+        public void put(TokenDigest digest, VerifiedClaims claims) {
+            // 보관하지 않음
+        }
+    }
+
+    /**
+     * 아무것도 보관하지 않는 거부 토큰 캐시입니다.
+     */
+    private static final class NoOpRejectedTokenCache extends RejectedTokenCache {
+
+        NoOpRejectedTokenCache() {
+            super(new SimpleMeterRegistry(), 0, 1);
+        }
+
+        @Override
+        public AuthMetrics.Failure get(TokenDigest digest) {
+            return null;
+        }
+
+        @Override
+        public void put(TokenDigest digest, AuthMetrics.Failure failure) {
+            // 보관하지 않음
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.jwt.demo.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.jwt.demo.jwt.JwtFilter;
+import com.jwt.demo.jwt.TokenProvider;
+import com.jwt.demo.security.AuthorityRegistry;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * 모의 서블릿 객체로 JwtFilter.doFilter 한 번(토큰 추출, TokenValidationPipeline 검증, Security Context 설정)을 측정합니다.
+ * request 파라미터: valid는 유효한 Bearer 토큰, anonymous는 Authorization 헤더 없음, invalid는 서명이 틀린 토큰,
+ * garbage는 JWT 형태가 아닌 값(스캐너 트래픽)입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    @Param({ "valid", "anonymous", "invalid", "garbage" })
+    private String request;
+
+    @Param({ "true", "false" })
+    private boolean verifiedTokenCache; // 검증 결과 캐시(성공한 토큰과 거부한 토큰) 사용 여부
+
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest servletRequest;
+    private MockHttpServletResponse servletResponse;
+
+    @Setup
+    public void setUp() {
+        AuthorityRegistry registry = BenchmarkFixtures.authorityRegistry();
+        TokenProvider tokenProvider = BenchmarkFixtures.tokenProvider("string", true, verifiedTokenCache, registry);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(BenchmarkFixtures.embeddedDatabase("filter"));
+        jwtFilter = new JwtFilter(tokenProvider, BenchmarkFixtures.validationPipeline(tokenProvider,
+                BenchmarkFixtures.blacklistService(jdbcTemplate, true)), BenchmarkFixtures.authMetrics());
+
+        servletRequest = new MockHttpServletRequest("GET", "/api/user");
+        servletResponse = new MockHttpServletResponse();
+        String token = tokenProvider.createToken(BenchmarkFixtures.authentication(registry), true);
+        switch (request) {
+            case "valid" -> servletRequest.addHeader(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + token);
+            case "invalid" -> servletRequest.addHeader(JwtFilter.AUTHORIZATION_HEADER,
+                    "Bearer " + token.substring(0, token.length() - 4) + "AAAA");
+            case "garbage" -> servletRequest.addHeader(JwtFilter.AUTHORIZATION_HEADER, "Bearer ' OR '1'='1");
+            default -> {
+                // Authorization 헤더 없음
+            }
+        }
+    }
+
+    @Benchmark
+    public void doFilter(Blackhole blackhole) throws IOException, ServletException {
+        FilterChain chain = (req, res) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        jwtFilter.doFilter(servletRequest, servletResponse, chain);
+        SecurityContextHolder.clearContext(); // 요청이 끝나면 비우는 SecurityContextHolderFilter와 같이 정리
+    }
+}
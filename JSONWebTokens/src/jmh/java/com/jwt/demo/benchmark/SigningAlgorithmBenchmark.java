@@ -0,0 +1,61 @@
+package com.jwt.demo.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jwt.demo.jwt.TokenProvider;
+import com.jwt.demo.jwt.VerifiedClaims;
+import com.jwt.demo.security.AuthorityRegistry;
+
+/**
+ * 서명 알고리즘(jwt.signing.algorithm)별 토큰 발급과 서명 검증 비용을 측정합니다.
+ * 검증 결과 캐시를 끄고 측정하므로 verify는 매번 서명을 검증하는 비용(처음 보는 토큰)입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningAlgorithmBenchmark {
+
+    @Param({ "HS512", "ES256" })
+    private String algorithm; // jwt.signing.algorithm
+
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token; // 검증 벤치마크에서 사용하는 유효한 액세스 토큰
+
+    @Setup
+    public void setUp() {
+        AuthorityRegistry registry = BenchmarkFixtures.authorityRegistry();
+        tokenProvider = BenchmarkFixtures.tokenProvider("string", true, false, registry);
+        ReflectionTestUtils.setField(tokenProvider, "signingKeyRing", BenchmarkFixtures.signingKeyRing(algorithm));
+        authentication = BenchmarkFixtures.authentication(registry);
+        token = tokenProvider.createToken(authentication, true);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(authentication, true);
+    }
+
+    @Benchmark
+    public Optional<VerifiedClaims> verify() {
+        return tokenProvider.verify(token);
+    }
+}
@@ -0,0 +1,74 @@
+package com.jwt.demo.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jwt.demo.service.TokenBlacklistService;
+
+/**
+ * 내장 H2 데이터베이스를 사용하는 TokenBlacklistService.isBlacklisted를 측정합니다.
+ * warm* 벤치마크는 블룸 필터가 채워진 평상시 경로를, cold* 벤치마크는 필터가 채워지기 전(모든 조회가 데이터베이스로 가는 경우)을 나타냅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenBlacklistBenchmark {
+
+    private static final int REVOKED_TOKENS = 1_000; // 미리 폐기해 두는 토큰 수
+    private static final int MASK = 1_023; // 조회할 토큰 식별자 배열의 인덱스 마스크 (크기 1024)
+
+    private TokenBlacklistService warmService;
+    private TokenBlacklistService coldService;
+    private final String[] activeTokenIds = new String[MASK + 1]; // 폐기되지 않은 토큰 식별자
+    private final String[] revokedTokenIds = new String[MASK + 1]; // 폐기된 토큰 식별자
+    private int next;
+
+    @Setup
+    public void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(BenchmarkFixtures.embeddedDatabase("blacklist"));
+        TokenBlacklistService writer = BenchmarkFixtures.blacklistService(jdbcTemplate, true);
+        LocalDateTime expiredAt = LocalDateTime.now().plusHours(1);
+        for (int i = 0; i < REVOKED_TOKENS; i++) {
+            String tokenId = UUID.randomUUID().toString();
+            writer.addToBlacklist(tokenId, expiredAt);
+            revokedTokenIds[i & MASK] = tokenId;
+        }
+        for (int i = 0; i < activeTokenIds.length; i++) {
+            activeTokenIds[i] = UUID.randomUUID().toString();
+        }
+
+        warmService = BenchmarkFixtures.blacklistService(jdbcTemplate, true);
+        coldService = BenchmarkFixtures.blacklistService(jdbcTemplate, false);
+    }
+
+    @Benchmark
+    public boolean warmActive() {
+        return warmService.isBlacklisted(activeTokenIds[next++ & MASK]);
+    }
+
+    @Benchmark
+    public boolean warmRevoked() {
+        return warmService.isBlacklisted(revokedTokenIds[next++ & MASK]);
+    }
+
+    @Benchmark
+    public boolean coldActive() {
+        return coldService.isBlacklisted(activeTokenIds[next++ & MASK]);
+    }
+}
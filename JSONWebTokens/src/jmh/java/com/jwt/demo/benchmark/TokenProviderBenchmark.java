@@ -0,0 +1,75 @@
+package com.jwt.demo.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import com.jwt.demo.jwt.TokenProvider;
+import com.jwt.demo.security.AuthorityRegistry;
+
+/**
+ * TokenProvider의 토큰 발급과 검증 경로를 측정합니다.
+ * verifiedTokenCache=true는 같은 Bearer 토큰이 반복되는 실제 요청 패턴(캐시 적중)을,
+ * false는 매 호출마다 서명을 검증하는 경우(처음 보는 토큰)를 나타냅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenProviderBenchmark {
+
+    @Param({ "string", "bitmask" })
+    private String authoritiesClaimFormat; // jwt.authorities-claim-format
+
+    @Param({ "true", "false" })
+    private boolean compactVerifier; // jwt.compact-verifier.enabled
+
+    @Param({ "true", "false" })
+    private boolean verifiedTokenCache; // 검증 결과 캐시 사용 여부
+
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token; // 검증 벤치마크에서 사용하는 유효한 액세스 토큰
+
+    @Setup
+    public void setUp() {
+        AuthorityRegistry registry = BenchmarkFixtures.authorityRegistry();
+        tokenProvider = BenchmarkFixtures.tokenProvider(authoritiesClaimFormat, compactVerifier, verifiedTokenCache, registry);
+        authentication = BenchmarkFixtures.authentication(registry);
+        token = tokenProvider.createToken(authentication, true);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(authentication, true);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Duration getExpiration() {
+        return tokenProvider.getExpiration(token);
+    }
+}
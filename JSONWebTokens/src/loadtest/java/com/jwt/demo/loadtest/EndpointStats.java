@@ -0,0 +1,84 @@
+package com.jwt.demo.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트 하나의 응답 시간 분포와 결과별 요청 수입니다.
+ * 응답 시간은 요청을 실제로 보낸 시각이 아니라 보내기로 예정된 시각부터 측정하므로,
+ * 서버가 느려져 요청이 밀린 시간도 포함됩니다. (coordinated omission 보정)
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Operation operation;
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3); // 마이크로초 단위 응답 시간
+    private final LongAdder success = new LongAdder(); // 2xx
+    private final LongAdder clientErrors = new LongAdder(); // 4xx
+    private final LongAdder serverErrors = new LongAdder(); // 5xx
+    private final LongAdder failures = new LongAdder(); // 연결 실패, 시간 초과 등
+    private final LongAdder dropped = new LongAdder(); // 동시 요청 수 상한을 넘어 보내지 못한 요청
+
+    EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    void recordResponse(int status, long latencyNanos) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            success.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        failures.increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf(Locale.ROOT, "%-24s %9s %9s %7s %7s %7s %7s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "2xx", "4xx", "5xx", "failed", "dropped",
+                "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+    }
+
+    void printSummary(PrintStream out, double measuredSeconds) {
+        long requests = latency.getTotalCount();
+        out.printf(Locale.ROOT, "%-24s %9d %9.1f %7d %7d %7d %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation.endpoint(), requests, requests / measuredSeconds,
+                success.sum(), clientErrors.sum(), serverErrors.sum(), failures.sum(), dropped.sum(),
+                millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()));
+    }
+
+    /**
+     * HdrHistogram 백분위 분포(.hgrm)를 밀리초 단위로 저장합니다.
+     */
+    void writeDistribution(Path directory) throws IOException {
+        Path file = directory.resolve(operation.name().toLowerCase(Locale.ROOT) + ".hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+            latency.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
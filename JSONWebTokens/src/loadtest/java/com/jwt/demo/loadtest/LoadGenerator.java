@@ -0,0 +1,313 @@
+package com.jwt.demo.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 설정된 도착률과 요청 비율로 엔드포인트를 호출하는 open model 부하 생성기입니다.
+ * 요청은 응답을 기다리지 않고 예정된 시각마다 비동기로 보내므로, 서버가 느려지면 동시 요청 수와 응답 시간이 함께 늘어납니다.
+ * 로그인 응답으로 받은 토큰은 세션 풀에 보관하여 이후의 /api/user, 토큰 갱신, 로그아웃 요청에 사용합니다.
+ */
+final class LoadGenerator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final LoadTestConfig config;
+    private final List<Credentials> users; // 로그인에 사용하는 사용자 목록
+    private final SessionPool sessions;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] operations; // 가중치 누적 구간별 엔드포인트
+    private final int[] cumulativeWeights;
+    private final Semaphore inFlight;
+    private final AtomicLong deviceSequence = new AtomicLong(); // 로그인마다 다른 디바이스 정보를 사용하기 위한 번호
+
+    LoadGenerator(HttpClient client, URI baseUri, LoadTestConfig config, List<Credentials> users, long sessionTtlNanos) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.config = config;
+        this.users = users;
+        this.sessions = new SessionPool(config.maxSessions(), sessionTtlNanos);
+        this.inFlight = new Semaphore(config.maxInFlight());
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation));
+        }
+
+        List<Map.Entry<Operation, Integer>> weighted = config.mix().entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .toList();
+        this.operations = new Operation[weighted.size()];
+        this.cumulativeWeights = new int[weighted.size()];
+        int total = 0;
+        for (int i = 0; i < weighted.size(); i++) {
+            total += weighted.get(i).getValue();
+            operations[i] = weighted.get(i).getKey();
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Map<Operation, EndpointStats> stats() {
+        return stats;
+    }
+
+    /**
+     * 측정을 시작하기 전에 로그인하여 세션 풀을 채웁니다.
+     * 풀이 비어 있으면 다른 요청이 모두 로그인으로 바뀌므로, 로그인 비율이 낮은 요청 비율도 처음부터 그대로 재현되도록 합니다.
+     * @param count 만들 세션 수
+     * @return 실제로 만든 세션 수
+     */
+    int prefill(int count) throws IOException, InterruptedException {
+        int created = 0;
+        for (int i = 0; i < count; i++) {
+            String deviceInfo = "loadtest-" + deviceSequence.incrementAndGet();
+            HttpResponse<String> response = client.send(request(Operation.LOGIN, null, deviceInfo),
+                    HttpResponse.BodyHandlers.ofString());
+            Session session = response.statusCode() == 200 ? parseTokens(response.body(), deviceInfo) : null;
+            if (session != null) {
+                sessions.add(session);
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * 워밍업과 측정 시간 동안 요청을 보내고, 처리 중인 요청이 모두 끝날 때까지 기다립니다.
+     * 워밍업 중에 예정된 요청은 결과에 포함하지 않습니다.
+     */
+    void run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureStart = start + config.warmup().toNanos();
+        long end = measureStart + config.duration().toNanos();
+
+        long next = start;
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait); // 일찍 깨어날 수 있으므로 다시 확인
+                continue;
+            }
+            // 늦어진 경우에도 예정 시각을 기준으로 보내고 측정하여, 생성기의 지연이 응답 시간에서 빠지지 않도록 함
+            dispatch(nextOperation(), next, next >= measureStart);
+            next += nextIntervalNanos();
+        }
+
+        long timeoutMillis = config.requestTimeout().toMillis() + 1_000;
+        if (!inFlight.tryAcquire(config.maxInFlight(), timeoutMillis, TimeUnit.MILLISECONDS)) {
+            System.err.println("처리 중인 요청이 시간 안에 끝나지 않았습니다.");
+        }
+    }
+
+    private void dispatch(Operation operation, long scheduledAt, boolean measured) {
+        if (!inFlight.tryAcquire()) {
+            if (measured) {
+                stats.get(operation).recordDropped();
+            }
+            return;
+        }
+
+        Session session = switch (operation) {
+            case USER -> sessions.peek();
+            case REFRESH, LOGOUT -> sessions.take();
+            case LOGIN -> null;
+        };
+        // 사용할 세션이 없으면 로그인으로 대신하여 세션 풀을 채움
+        Operation actual = session == null ? Operation.LOGIN : operation;
+        String deviceInfo = session == null ? "loadtest-" + deviceSequence.incrementAndGet() : session.deviceInfo();
+
+        client.sendAsync(request(actual, session, deviceInfo), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    try {
+                        long latency = System.nanoTime() - scheduledAt;
+                        if (error != null) {
+                            if (measured) {
+                                stats.get(actual).recordFailure(latency);
+                            }
+                            return;
+                        }
+                        if (measured) {
+                            stats.get(actual).recordResponse(response.statusCode(), latency);
+                        }
+                        onResponse(actual, session, deviceInfo, response);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+    }
+
+    private HttpRequest request(Operation operation, Session session, String deviceInfo) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(config.requestTimeout());
+        return switch (operation) {
+            case LOGIN -> {
+                Credentials user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+                yield builder.uri(baseUri.resolve("/api/login"))
+                        .header("Content-Type", "application/json")
+                        .header("User-Agent", deviceInfo)
+                        .POST(json(Map.of("username", user.username(), "password", user.password())))
+                        .build();
+            }
+            case REFRESH -> builder.uri(baseUri.resolve("/api/refresh-token"))
+                    .header("Content-Type", "application/json")
+                    .POST(json(Map.of("refreshToken", session.refreshToken(), "deviceInfo", deviceInfo)))
+                    .build();
+            case LOGOUT -> builder.uri(baseUri.resolve("/api/logout"))
+                    .header("Authorization", "Bearer " + session.accessToken())
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            case USER -> builder.uri(baseUri.resolve("/api/user"))
+                    .header("Authorization", "Bearer " + session.accessToken())
+                    .GET()
+                    .build();
+        };
+    }
+
+    private void onResponse(Operation operation, Session session, String deviceInfo, HttpResponse<String> response) {
+        int status = response.statusCode();
+        switch (operation) {
+            case LOGIN, REFRESH -> {
+                // 로그인과 토큰 갱신은 새 액세스/리프레시 토큰을 받으므로 세션 풀에 넣음
+                if (status == 200) {
+                    Session issued = parseTokens(response.body(), deviceInfo);
+                    if (issued != null) {
+                        sessions.add(issued);
+                    }
+                }
+            }
+            case USER -> {
+                if (status == 401 || status == 403) {
+                    sessions.remove(session); // 더 이상 사용할 수 없는 세션
+                }
+            }
+            case LOGOUT -> {
+                // 로그아웃한 세션은 take()로 이미 풀에서 제거됨
+            }
+        }
+    }
+
+    private static Session parseTokens(String body, String deviceInfo) {
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(body);
+            if (!node.hasNonNull("accessToken") || !node.hasNonNull("refreshToken")) {
+                return null;
+            }
+            return new Session(node.get("accessToken").asText(), node.get("refreshToken").asText(), deviceInfo,
+                    System.nanoTime());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static HttpRequest.BodyPublisher json(Map<String, String> body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Operation nextOperation() {
+        int point = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private long nextIntervalNanos() {
+        double meanNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        if (!config.poisson()) {
+            return (long) meanNanos;
+        }
+        // 포아송 도착: 도착 간격은 평균이 1/rate인 지수 분포
+        return (long) (-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanNanos);
+    }
+
+    record Credentials(String username, String password) {
+    }
+
+    record Session(String accessToken, String refreshToken, String deviceInfo, long issuedAtNanos) {
+    }
+
+    /**
+     * 로그인한 세션의 크기 제한 풀입니다. 임의의 세션을 꺼내며, 액세스 토큰이 만료되었을 세션은 버립니다.
+     */
+    static final class SessionPool {
+
+        private final Session[] sessions;
+        private final long ttlNanos;
+        private int size;
+
+        SessionPool(int capacity, long ttlNanos) {
+            this.sessions = new Session[capacity];
+            this.ttlNanos = ttlNanos;
+        }
+
+        synchronized void add(Session session) {
+            if (size == sessions.length) {
+                sessions[ThreadLocalRandom.current().nextInt(size)] = session; // 가득 차면 임의의 세션을 교체
+            } else {
+                sessions[size++] = session;
+            }
+        }
+
+        /** 세션을 풀에 남겨 둔 채 반환합니다. */
+        synchronized Session peek() {
+            int index = randomLiveIndex();
+            return index < 0 ? null : sessions[index];
+        }
+
+        /** 세션을 풀에서 꺼내 반환합니다. */
+        synchronized Session take() {
+            int index = randomLiveIndex();
+            if (index < 0) {
+                return null;
+            }
+            Session session = sessions[index];
+            removeAt(index);
+            return session;
+        }
+
+        synchronized void remove(Session session) {
+            for (int i = 0; i < size; i++) {
+                if (sessions[i] == session) {
+                    removeAt(i);
+                    return;
+                }
+            }
+        }
+
+        private int randomLiveIndex() {
+            long now = System.nanoTime();
+            while (size > 0) {
+                int index = ThreadLocalRandom.current().nextInt(size);
+                if (now - sessions[index].issuedAtNanos() < ttlNanos) {
+                    return index;
+                }
+                removeAt(index);
+            }
+            return -1;
+        }
+
+        private void removeAt(int index) {
+            sessions[index] = sessions[--size];
+            sessions[size] = null;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.jwt.demo.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정입니다. 모든 값은 시스템 프로퍼티(-Dloadtest.*)로 바꿀 수 있습니다.
+ *
+ * @param rate 초당 요청 도착 수 (open model: 응답 속도와 관계없이 이 속도로 요청을 보냄)
+ * @param poisson true이면 도착 간격을 지수 분포로, false이면 일정한 간격으로 둠
+ * @param warmup 측정에서 제외하는 워밍업 시간
+ * @param duration 측정 시간
+ * @param mix 엔드포인트별 요청 비율 (가중치)
+ * @param users 테스트 시작 시 회원가입시키는 사용자 수
+ * @param sessions 측정 전에 미리 로그인해 두는 세션 수
+ * @param maxSessions 로그인한 세션을 보관하는 최대 개수
+ * @param maxInFlight 동시에 처리 중일 수 있는 최대 요청 수 (넘으면 보내지 않고 dropped로 집계)
+ * @param requestTimeout 요청 하나의 최대 대기 시간
+ * @param output 결과 파일을 저장할 디렉터리
+ */
+record LoadTestConfig(
+        double rate,
+        boolean poisson,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int users,
+        int sessions,
+        int maxSessions,
+        int maxInFlight,
+        Duration requestTimeout,
+        Path output) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Double.parseDouble(System.getProperty("loadtest.rate", "100")),
+                !"uniform".equalsIgnoreCase(System.getProperty("loadtest.arrival", "poisson")),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+                parseMix(System.getProperty("loadtest.mix", "user:70,refresh:15,login:10,logout:5")),
+                Integer.getInteger("loadtest.users", 20),
+                Integer.getInteger("loadtest.sessions", 100),
+                Integer.getInteger("loadtest.max-sessions", 2_000),
+                Integer.getInteger("loadtest.max-in-flight", 1_000),
+                Duration.ofMillis(Long.getLong("loadtest.request-timeout-ms", 10_000)),
+                Path.of(System.getProperty("loadtest.output", "target/loadtest")));
+    }
+
+    /**
+     * "user:70,refresh:15,login:10,logout:5" 형식의 요청 비율을 파싱합니다.
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 잘못되었습니다: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("loadtest.mix 가중치는 0 이상이어야 합니다: " + entry);
+            }
+            mix.put(Operation.fromName(pair[0].trim()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("loadtest.mix에 가중치가 0보다 큰 항목이 있어야 합니다.");
+        }
+        return mix;
+    }
+}
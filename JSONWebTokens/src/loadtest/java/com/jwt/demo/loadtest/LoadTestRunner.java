@@ -0,0 +1,139 @@
+package com.jwt.demo.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import com.jwt.demo.DemoJwtApplication;
+import com.jwt.demo.loadtest.LoadGenerator.Credentials;
+
+/**
+ * DemoJwtApplication을 내장 H2 데이터베이스(MySQL 호환 모드)로 같은 JVM에서 실행하고,
+ * LoadGenerator로 부하를 준 뒤 엔드포인트별 처리량과 응답 시간 백분위를 출력합니다.
+ *
+ * 실행: mvn -Ploadtest test-compile exec:java -Dloadtest.rate=300 -Dloadtest.duration-seconds=120
+ * 애플리케이션 설정은 -Dspring.*, -Djwt.* 시스템 프로퍼티로 바꿀 수 있습니다.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        embeddedDatabaseProperties().forEach((key, value) -> {
+            if (System.getProperty(key) == null) {
+                System.setProperty(key, value); // 시스템 프로퍼티는 application.yml보다 우선함
+            }
+        });
+
+        ConfigurableApplicationContext context = SpringApplication.run(DemoJwtApplication.class, args);
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            Environment environment = context.getEnvironment();
+            URI baseUri = URI.create("http://localhost:" + environment.getRequiredProperty("local.server.port"));
+            // 액세스 토큰이 만료되기 조금 전까지만 세션을 사용
+            long accessTokenSeconds = environment.getRequiredProperty("jwt.token-validity-in-seconds", Long.class);
+            long sessionTtlNanos = TimeUnit.SECONDS.toNanos(Math.max(1, accessTokenSeconds - 5));
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+            List<Credentials> users = signUp(client, baseUri, config.users());
+
+            LoadGenerator generator = new LoadGenerator(client, baseUri, config, users, sessionTtlNanos);
+            int prefilled = generator.prefill(config.sessions());
+            System.out.printf("부하 테스트 시작: %s, 준비된 세션 %d개%n", config, prefilled);
+            generator.run();
+            report(config, generator.stats());
+        } finally {
+            executor.shutdownNow();
+            context.close();
+        }
+    }
+
+    /**
+     * MySQL 대신 사용할 내장 H2 데이터베이스와, 측정에 영향을 주는 로그와 속도 제한을 끄는 설정입니다.
+     */
+    private static Map<String, String> embeddedDatabaseProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.properties.hibernate.show-sql", "false");
+        properties.put("spring.devtools.restart.enabled", "false");
+        properties.put("server.port", "0"); // 사용 가능한 임의의 포트
+        properties.put("management.server.port", "0"); // 액추에이터 포트도 임의로 정해 8081 충돌을 피함
+        properties.put("jwt.rate-limit.enabled", "false"); // 모든 요청이 한 IP에서 오므로 속도 제한 없이 처리 용량을 측정
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.com.jwt.demo", "WARN");
+        return properties;
+    }
+
+    /**
+     * 로그인에 사용할 사용자를 회원가입 API로 만듭니다. (비밀번호 해시도 실제 경로와 같이 처리됨)
+     */
+    private static List<Credentials> signUp(HttpClient client, URI baseUri, int count) throws IOException, InterruptedException {
+        List<Credentials> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Credentials user = new Credentials("loadtest-user-" + i, "loadtest-password");
+            String body = String.format("{\"username\":\"%s\",\"password\":\"%s\",\"nickname\":\"loadtest-%d\"}",
+                    user.username(), user.password(), i);
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(baseUri.resolve("/api/signup"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("테스트 사용자를 만들지 못했습니다: " + response.statusCode() + " " + response.body());
+            }
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static void report(LoadTestConfig config, Map<Operation, EndpointStats> stats) throws IOException {
+        double measuredSeconds = config.duration().toMillis() / 1000.0;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+            out.printf("rate=%.1f/s, arrival=%s, warmup=%ds, duration=%ds, mix=%s%n", config.rate(),
+                    config.poisson() ? "poisson" : "uniform", config.warmup().toSeconds(),
+                    config.duration().toSeconds(), config.mix());
+            EndpointStats.printHeader(out);
+            for (EndpointStats endpoint : stats.values()) {
+                endpoint.printSummary(out, measuredSeconds);
+            }
+        }
+        String summary = buffer.toString(StandardCharsets.UTF_8);
+        System.out.print(summary);
+
+        Files.createDirectories(config.output());
+        Files.writeString(config.output().resolve("summary.txt"), summary, StandardCharsets.UTF_8);
+        for (EndpointStats endpoint : stats.values()) {
+            endpoint.writeDistribution(config.output());
+        }
+        System.out.printf("결과를 %s에 저장했습니다.%n", config.output().toAbsolutePath());
+    }
+}
@@ -0,0 +1,30 @@
+package com.jwt.demo.loadtest;
+
+/**
+ * 부하 테스트가 호출하는 엔드포인트입니다.
+ */
+enum Operation {
+    LOGIN("POST /api/login"),
+    REFRESH("POST /api/refresh-token"),
+    LOGOUT("POST /api/logout"),
+    USER("GET /api/user");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation fromName(String name) {
+        for (Operation operation : values()) {
+            if (operation.name().equalsIgnoreCase(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 엔드포인트입니다: " + name);
+    }
+}
@@ -1,6 +1,5 @@
 package com.jwt.demo.controller;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -19,8 +18,12 @@ import com.jwt.demo.dto.LoginDto;
 import com.jwt.demo.dto.TokenDto;
 import com.jwt.demo.jwt.JwtFilter;
 import com.jwt.demo.jwt.TokenProvider;
+import com.jwt.demo.jwt.VerifiedClaims;
+import com.jwt.demo.security.AuthRateLimiter;
+import com.jwt.demo.security.TokenValidationPipeline;
 import com.jwt.demo.service.AuthenticationService;
 import com.jwt.demo.service.TokenBlacklistService;
+import com.jwt.demo.service.TokenEpochService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -36,10 +39,16 @@ public class AuthController {
     private final AuthenticationService authenticationService; // 인증 관련 로직을 담당하는 서비스
     private final TokenProvider tokenProvider; // JWT 토큰 생성 및 인증을 처리하는 TokenProvider 클래스
     private final TokenBlacklistService tokenBlacklistService; // 토큰 블랙리스트 관리 서비스
+    private final AuthRateLimiter authRateLimiter; // 로그인/토큰 갱신 요청 속도 제한
+    private final TokenValidationPipeline tokenValidationPipeline; // 폐기 여부까지 포함한 토큰 검증
+    private final TokenEpochService tokenEpochService; // 사용자별 토큰 세대 관리 서비스
 
     // 로그인 엔드포인트
     @PostMapping("/login")
     public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginDto loginDto, HttpServletRequest request) {
+        // 비밀번호 해시와 사용자 조회 전에 클라이언트 IP와 사용자 이름별 요청 속도를 확인합니다. (초과 시 429)
+        authRateLimiter.checkLogin(request.getRemoteAddr(), loginDto.getUsername());
+
         // User-Agent 헤더 정보를 가져와 deviceInfo로 사용합니다.
         String deviceInfo = request.getHeader("User-Agent");
 
@@ -61,16 +70,20 @@ public class AuthController {
     // 토큰 갱신 엔드포인트
     @PostMapping("/refresh-token")
     public ResponseEntity<?> refreshToken(@RequestBody RefreshTokenRequest refreshTokenRequest, 
-                                          Authentication authentication) {     
+                                          Authentication authentication, HttpServletRequest request) {     
+        // 토큰 검증과 데이터베이스 조회 전에 클라이언트 IP별 요청 속도를 확인합니다. (초과 시 429)
+        authRateLimiter.checkRefresh(request.getRemoteAddr());
+
         try {
             // Authentication 객체가 null일 경우 새로 생성
             if (authentication == null) {
                 String refreshToken = refreshTokenRequest.getRefreshToken();
                 
-                // TokenProvider를 사용해 리프레시 토큰 유효성을 검증합니다.
-                if (tokenProvider.validateToken(refreshToken)) {
-                    // 유효한 경우, 토큰으로부터 인증 정보를 가져와 SecurityContext에 설정합니다.
-                    authentication = tokenProvider.getAuthentication(refreshToken);
+                // 검증 파이프라인으로 리프레시 토큰의 서명, 만료, 세대(모든 기기 로그아웃 여부)를 확인합니다.
+                Optional<VerifiedClaims> verified = tokenValidationPipeline.validate(refreshToken);
+                if (verified.isPresent()) {
+                    // 유효한 경우, 검증된 클레임으로부터 인증 정보를 만들어 SecurityContext에 설정합니다.
+                    authentication = tokenProvider.getAuthentication(verified.get(), refreshToken);
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 } else {
                     // 유효하지 않으면, 오류 응답을 반환합니다.
@@ -100,18 +113,27 @@ public class AuthController {
         if (token != null && token.startsWith("Bearer ")) {
             String jwtToken = token.substring(7); // "Bearer " 부분 제거
             
-            // 토큰의 남은 만료 시간을 계산
-            Duration expiration = tokenProvider.getExpiration(jwtToken); 
-
-            // 현재 시간에 expiration(Duration)을 더해서 만료 시간을 계산
-            LocalDateTime expirationTime = LocalDateTime.now().plus(expiration);
+            // 토큰을 검증하고 만료 시간을 클레임에서 바로 가져옵니다. (별도의 재파싱 없음)
+            Optional<VerifiedClaims> verified = tokenProvider.verify(jwtToken);
+            if (verified.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid token.");
+            }
+            LocalDateTime expirationTime = verified.get().getExpiresAt();
 
-            // 블랙리스트에 토큰과 계산된 만료 시간(expirationTime)을 전달
-            tokenBlacklistService.addToBlacklist(jwtToken, expirationTime);
+            // 블랙리스트에 토큰 식별자(jti)와 만료 시간(expirationTime)을 전달
+            tokenBlacklistService.addToBlacklist(verified.get().getTokenId(), expirationTime);
             
             return ResponseEntity.ok("Successfully logged out.");
         } else {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid token.");
         }
     }
+
+    // 모든 기기 로그아웃 엔드포인트
+    @PostMapping("/logout-all")
+    public ResponseEntity<String> logoutAll(Authentication authentication) {
+        // 토큰 세대를 올려 지금까지 발급된 모든 액세스/리프레시 토큰을 한 번에 폐기합니다. (토큰별 블랙리스트 등록 없음)
+        tokenEpochService.revokeAll(authentication.getName());
+        return ResponseEntity.ok("Successfully logged out from all devices.");
+    }
 }
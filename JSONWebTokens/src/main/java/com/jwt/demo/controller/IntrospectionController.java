@@ -0,0 +1,34 @@
+package com.jwt.demo.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.jwt.demo.dto.IntrospectionRequestDto;
+import com.jwt.demo.dto.IntrospectionResultDto;
+import com.jwt.demo.service.TokenIntrospectionService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class IntrospectionController {
+
+    private final TokenIntrospectionService tokenIntrospectionService; // 일괄 토큰 검증 서비스
+
+    @PostMapping("/introspect")
+    @PreAuthorize("hasRole('SERVICE')") // ROLE_SERVICE 권한을 가진 내부 서비스나 게이트웨이만 호출할 수 있습니다. (일반 사용자는 403)
+    public ResponseEntity<?> introspect(@RequestBody IntrospectionRequestDto request) {
+        List<String> tokens = request.getTokens();
+        if (tokens == null || tokens.size() > tokenIntrospectionService.getMaxTokens()) {
+            return ResponseEntity.badRequest()
+                    .body("A list of at most " + tokenIntrospectionService.getMaxTokens() + " tokens is required.");
+        }
+        // 토큰 순서와 같은 순서로 토큰별 검증 결과(subject, 권한, 남은 유효 시간)를 반환합니다.
+        List<IntrospectionResultDto> results = tokenIntrospectionService.introspect(tokens);
+        return ResponseEntity.ok(results);
+    }
+}
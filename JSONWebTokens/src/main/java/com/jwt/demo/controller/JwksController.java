@@ -0,0 +1,34 @@
+package com.jwt.demo.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jwt.demo.jwt.SigningKeyRing;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final SigningKeyRing signingKeyRing; // 공개할 서명 키 목록
+
+    @Value("${jwt.jwks.max-age-seconds:300}")
+    private long maxAgeSeconds; // 다른 서비스가 JWKS를 캐시할 수 있는 시간 (jwt.signing.publish-ahead-seconds보다 짧아야 함)
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<String> jwks() {
+        // 미리 만들어 둔 JWKS 문서를 캐시 가능하도록 반환합니다. If-None-Match가 ETag와 같으면 304로 응답합니다.
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic())
+                .eTag(signingKeyRing.getJwksEtag())
+                .body(signingKeyRing.getJwks());
+    }
+}
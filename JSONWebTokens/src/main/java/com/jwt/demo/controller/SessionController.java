@@ -0,0 +1,59 @@
+package com.jwt.demo.controller;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.*;
+
+import com.jwt.demo.dto.SessionPageDto;
+import com.jwt.demo.service.SessionService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/sessions") // 현재 사용자의 로그인 세션(기기) 관리
+public class SessionController {
+
+    private final SessionService sessionService; // 세션 조회 및 폐기 서비스
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('USER','ADMIN')") // "USER" 또는 "ADMIN" 권한을 가진 사용자만 접근할 수 있습니다.
+    public ResponseEntity<SessionPageDto> getSessions(Authentication authentication,
+                                                      @RequestParam(defaultValue = "0") int page,
+                                                      @RequestParam(defaultValue = "20") int size) {
+        // 현재 사용자의 유효한 세션을 최근에 발급된 순서로 한 페이지 조회합니다.
+        return ResponseEntity.ok(sessionService.getActiveSessions(authentication.getName(), page, size));
+    }
+
+    @DeleteMapping("/{sessionId}")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public ResponseEntity<String> revokeSession(Authentication authentication, @PathVariable UUID sessionId) {
+        // 세션 하나를 폐기합니다. 다른 사용자의 세션이거나 이미 폐기된 세션이면 404를 반환합니다.
+        if (!sessionService.revokeSession(authentication.getName(), sessionId)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Session not found.");
+        }
+        return ResponseEntity.ok("Session revoked.");
+    }
+
+    @PostMapping("/revoke-others")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public ResponseEntity<String> revokeOtherSessions(Authentication authentication,
+                                                      @RequestBody RefreshTokenRequest currentSession) {
+        // 요청에 담긴 리프레시 토큰의 세션만 남기고 나머지 세션을 모두 폐기합니다.
+        if (!StringUtils.hasText(currentSession.getRefreshToken())) {
+            return ResponseEntity.badRequest().body("Refresh token of the current session is required.");
+        }
+        // 사용자의 유효한 세션이 아닌 토큰이면 아무것도 폐기하지 않고 400을 반환합니다.
+        Optional<Integer> revoked = sessionService.revokeOtherSessions(authentication.getName(), currentSession.getRefreshToken());
+        if (revoked.isEmpty()) {
+            return ResponseEntity.badRequest().body("Refresh token of the current session is invalid or expired.");
+        }
+        return ResponseEntity.ok("Revoked " + revoked.get() + " other session(s).");
+    }
+}
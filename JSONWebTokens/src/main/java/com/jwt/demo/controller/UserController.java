@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.*;
 
 import com.jwt.demo.dto.UserDto;
 import com.jwt.demo.entities.User;
+import com.jwt.demo.service.TokenEpochService;
 import com.jwt.demo.service.UserService;
 
 import jakarta.validation.Valid;
@@ -17,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
     
     private final UserService userService;
+    private final TokenEpochService tokenEpochService; // 사용자별 토큰 세대 관리 서비스
 
     @PostMapping("/signup")
     public ResponseEntity<User> signup(
@@ -28,9 +30,11 @@ public class UserController {
 
     @GetMapping("/user") 
     @PreAuthorize("hasAnyRole('USER','ADMIN')") // "USER" 또는 "ADMIN" 권한을 가진 사용자만 접근할 수 있습니다.
-    public ResponseEntity<User> getMyUserInfo() {
-        // 현재 인증된 사용자의 정보를 가져와서 반환합니다.
-        return ResponseEntity.ok(userService.getMyUserWithAuthorities().get());
+    public ResponseEntity<User> getMyUserInfo(
+            @RequestParam(defaultValue = "false") boolean fresh // true이면 토큰의 클레임 대신 저장된 사용자 정보를 조회합니다.
+    ) {
+        // 현재 인증된 사용자의 정보를 가져와서 반환합니다. (기본적으로 검증된 토큰의 클레임으로 응답)
+        return ResponseEntity.ok(userService.getMyUser(fresh).get());
     }
 
     @GetMapping("/user/{username}") 
@@ -39,4 +43,12 @@ public class UserController {
         // 특정 사용자의 정보를 가져와서 반환합니다.
         return ResponseEntity.ok(userService.getUserWithAuthorities(username).get());
     }
+
+    @PostMapping("/user/{username}/revoke-tokens")
+    @PreAuthorize("hasAnyRole('ADMIN')") // "ADMIN" 권한을 가진 사용자만 접근할 수 있습니다.
+    public ResponseEntity<String> revokeTokens(@PathVariable String username) {
+        // 특정 사용자의 모든 토큰을 폐기합니다. (강제 로그아웃)
+        tokenEpochService.revokeAll(username);
+        return ResponseEntity.ok("Revoked all tokens of " + username + ".");
+    }
 }
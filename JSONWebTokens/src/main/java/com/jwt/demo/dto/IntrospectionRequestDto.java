@@ -0,0 +1,18 @@
+package com.jwt.demo.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IntrospectionRequestDto {
+    private List<String> tokens; // 검증할 액세스 토큰 목록 (jwt.introspection.max-tokens개까지)
+}
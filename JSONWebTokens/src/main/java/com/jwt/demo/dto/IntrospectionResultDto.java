@@ -0,0 +1,26 @@
+package com.jwt.demo.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL) // 유효하지 않은 토큰은 active와 reason만 응답
+public class IntrospectionResultDto {
+    private boolean active;           // 서명, 만료 시간, 폐기 여부를 모두 통과했는지 여부
+    private String sub;               // 토큰의 subject (사용자 이름)
+    private List<String> authorities; // 토큰에 담긴 권한 목록
+    private Long exp;                 // 만료 시각 (epoch 초)
+    private Long expiresIn;           // 남은 유효 시간 (초)
+    private String reason;            // 유효하지 않은 이유 (jwt.validation.failures의 reason 태그와 같은 값)
+}
@@ -0,0 +1,21 @@
+package com.jwt.demo.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SessionDto {
+    private UUID sessionId;           // 세션 식별자 (리프레시 토큰 다이제스트, 토큰 문자열은 노출하지 않음)
+    private String deviceInfo;        // 로그인 또는 토큰 갱신 시 전달된 디바이스 정보
+    private LocalDateTime expiresAt;  // 리프레시 토큰 만료 시각 (발급 순서와 같음)
+}
@@ -0,0 +1,20 @@
+package com.jwt.demo.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SessionPageDto {
+    private List<SessionDto> sessions; // 최근에 발급된 세션부터 정렬된 한 페이지
+    private int page;                  // 현재 페이지 번호 (0부터)
+    private boolean hasNext;           // 다음 페이지가 있는지 여부 (전체 개수는 세지 않음)
+}
@@ -1,5 +1,7 @@
 package com.jwt.demo.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -22,4 +24,8 @@ public class Authority {
     @Id
     @Column(name = "authority_name", length = 50) // 기본키로, 권한의 이름을 저장
     private String authorityName;
+
+    @JsonIgnore // 토큰 인코딩용 내부 값이므로 응답에는 포함하지 않음
+    @Column(name = "authority_bit", unique = true) // 토큰의 비트마스크 권한 클레임에서 이 권한을 나타내는 비트 위치 (없으면 문자열 형식으로만 표현)
+    private Integer authorityBit;
 }
\ No newline at end of file
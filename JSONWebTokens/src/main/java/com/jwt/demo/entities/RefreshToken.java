@@ -1,9 +1,22 @@
 package com.jwt.demo.entities;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import com.jwt.demo.util.TokenDigest;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,24 +25,79 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 @Entity
-public class RefreshToken {
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_username_expiry", columnList = "username, expiry_date"), // 사용자별 세션 목록 (최근 발급 순 페이지 조회)
+        @Index(name = "idx_refresh_token_expiry_date", columnList = "expiry_date"), // 만료된 토큰 정리
+        @Index(name = "idx_refresh_token_rotated_at", columnList = "rotated_at") // 사용(교체)된 토큰 정리
+})
+public class RefreshToken implements Persistable<UUID> {
     @Id
-    private String token;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "token_digest", length = TokenDigest.LENGTH)
+    private UUID tokenDigest; // 토큰 문자열 대신 저장하는 16바이트 다이제스트 (고정 길이 기본키)
+
+    @Column(name = "username", length = 50, nullable = false)
     private String username;
+
+    @Column(name = "expiry_date", nullable = false)
     private LocalDateTime expiryDate; // 토큰 만료 날짜와 시간
+
+    @Column(name = "is_expired", nullable = false)
     private boolean isExpired; // 토큰 만료 여부 필드 추가
+
+    @Column(name = "device_info")
     private String deviceInfo; // 디바이스 정보 필드 추가
 
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt; // 사용(교체) 또는 만료 처리된 시각 (보존 기간이 지나면 정리 대상)
+
+    @Transient
+    private boolean persisted; // 저장되었거나 조회된 엔티티인지 여부 (새 토큰 저장 시 merge용 SELECT를 생략하기 위함)
+
+    @Builder
+    public RefreshToken(String token, String username, LocalDateTime expiryDate, boolean isExpired, String deviceInfo) {
+        this.tokenDigest = digestOf(token);
+        this.username = username;
+        this.expiryDate = expiryDate;
+        this.isExpired = isExpired;
+        this.deviceInfo = deviceInfo;
+    }
+
+    /**
+     * 리프레시 토큰 문자열을 기본키로 사용하는 다이제스트로 변환합니다.
+     * @param token 리프레시 토큰
+     * @return 토큰 다이제스트
+     */
+    public static UUID digestOf(String token) {
+        return TokenDigest.of(token).toUuid();
+    }
+
     // 만료 처리 메서드
     public void expire() {
         this.isExpired = true;
+        this.rotatedAt = LocalDateTime.now();
     }
 
     // 만료 여부 확인 메서드
     public boolean isTokenExpired() {
         return this.isExpired || expiryDate.isBefore(LocalDateTime.now());
     }
+
+    @Override
+    public UUID getId() {
+        return tokenDigest;
+    }
+
+    // 토큰 값은 항상 새로 생성되므로, 저장/조회되기 전까지는 새 엔티티로 보고 바로 INSERT 합니다.
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
@@ -0,0 +1,19 @@
+package com.jwt.demo.exception;
+
+/**
+ * ServiceOverloadedException은 제한된 작업 풀이 포화되어 요청을 바로 거절할 때 사용하는 예외입니다.
+ * GlobalExceptionHandler에서 503 (Service Unavailable)과 Retry-After 헤더로 변환됩니다.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds; // 클라이언트가 다시 시도하기까지 기다릴 시간 (초)
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
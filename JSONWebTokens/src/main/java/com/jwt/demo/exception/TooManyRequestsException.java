@@ -0,0 +1,19 @@
+package com.jwt.demo.exception;
+
+/**
+ * TooManyRequestsException은 한 클라이언트나 사용자 이름의 요청이 허용된 속도를 넘었을 때 사용하는 예외입니다.
+ * GlobalExceptionHandler에서 429 (Too Many Requests)와 Retry-After 헤더로 변환됩니다.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds; // 클라이언트가 다시 시도하기까지 기다릴 시간 (초)
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,9 +1,15 @@
 package com.jwt.demo.handler;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import com.jwt.demo.exception.ServiceOverloadedException;
+import com.jwt.demo.exception.TooManyRequestsException;
 
 @ControllerAdvice // 전역적으로 예외를 처리하는 클래스임을 나타냅니다.
 public class GlobalExceptionHandler {
@@ -13,4 +19,32 @@ public class GlobalExceptionHandler {
         // HTTP 상태 코드 500 (Internal Server Error)와 예외 메시지를 응답 본문에 포함하여 반환합니다.
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
     }
+
+    @ExceptionHandler(AccessDeniedException.class) // @PreAuthorize 권한 검사에 실패한 요청을 처리
+    public ResponseEntity<String> handleAccessDenied(AccessDeniedException e) {
+        // HTTP 상태 코드 403 (Forbidden)을 반환합니다. (모든 Exception을 500으로 바꾸는 처리보다 우선)
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class) // 경로 변수나 요청 파라미터의 형식이 잘못된 요청을 처리
+    public ResponseEntity<String> handleTypeMismatch(MethodArgumentTypeMismatchException e) {
+        // HTTP 상태 코드 400 (Bad Request)과 함께 잘못된 파라미터 이름을 알려 줍니다.
+        return ResponseEntity.badRequest().body("Invalid parameter: " + e.getName());
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class) // 작업 풀이 포화되어 거절된 요청을 처리
+    public ResponseEntity<String> handleServiceOverloaded(ServiceOverloadedException e) {
+        // HTTP 상태 코드 503 (Service Unavailable)과 함께 다시 시도할 시점을 Retry-After 헤더로 알려 줍니다.
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class) // 요청 속도 제한을 넘은 요청을 처리
+    public ResponseEntity<String> handleTooManyRequests(TooManyRequestsException e) {
+        // HTTP 상태 코드 429 (Too Many Requests)와 함께 다시 시도할 시점을 Retry-After 헤더로 알려 줍니다.
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
+    }
 }
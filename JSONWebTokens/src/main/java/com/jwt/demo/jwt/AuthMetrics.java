@@ -0,0 +1,140 @@
+package com.jwt.demo.jwt;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * AuthMetrics는 인증 파이프라인(JwtFilter, 토큰 검증, 로그인, 리프레시 토큰 교체)의 Micrometer 메트릭을 모아 둔 컴포넌트입니다.
+ * 태그 값은 아래 enum의 고정된 값만 사용하여 카디널리티를 낮게 유지하며,
+ * 모든 미터는 생성 시 한 번만 등록하여 요청 처리 경로에서는 조회 없이 기록만 합니다.
+ * (검증 단계 타이머는 TokenValidationPipeline이 생성 시 단계마다 한 번 등록합니다.)
+ */
+@Component
+public class AuthMetrics {
+
+    /** JwtFilter의 처리 단계 */
+    public enum FilterPhase {
+        RESOLVE, // Authorization 헤더에서 토큰 추출
+        VALIDATE, // TokenValidationPipeline 전체 (단계별 시간은 jwt.validation.stage)
+        AUTHENTICATION // Authentication 생성 및 Security Context 설정
+    }
+
+    /** 토큰 검증 실패 사유 */
+    public enum Failure {
+        EXPIRED, // 만료된 토큰
+        BAD_SIGNATURE, // 서명이 일치하지 않음
+        UNKNOWN_KEY, // 키 목록에 아직 없는 kid (다른 노드가 방금 만든 키일 수 있으므로 거부 캐시에 보관하지 않음)
+        MALFORMED, // JWT 형식이 아님
+        UNSUPPORTED, // 지원하지 않는 형식의 JWT
+        NO_EXPIRATION, // 만료 시간이 없는 토큰
+        BLACKLISTED, // 로그아웃 등으로 폐기된 토큰
+        REVOKED // 사용자의 모든 토큰 폐기(세대 증가) 이전에 발급된 토큰
+    }
+
+    /** 로그인(AuthenticationService.makeTokens)의 처리 단계 */
+    public enum LoginPhase {
+        USER_LOOKUP, // 사용자와 권한 조회 (캐시 또는 데이터베이스)
+        PASSWORD_HASH, // 비밀번호 해시 비교 (해시 작업 풀 대기 시간 포함)
+        TOKEN_ISSUE // 액세스/리프레시 토큰 서명과 리프레시 토큰 저장
+    }
+
+    private final Map<FilterPhase, Timer> filterPhases = new EnumMap<>(FilterPhase.class);
+    private final Map<Failure, Counter> failures = new EnumMap<>(Failure.class);
+    private final Map<LoginPhase, Timer> loginPhases = new EnumMap<>(LoginPhase.class);
+    private final Timer loginSucceeded;
+    private final Timer loginFailed;
+    private final Timer rotationSucceeded;
+    private final Timer rotationRejected;
+    private final Timer refreshTokenSave;
+    private final MeterRegistry meterRegistry; // 검증 단계 타이머 등록용
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (FilterPhase phase : FilterPhase.values()) {
+            filterPhases.put(phase, Timer.builder("jwt.filter.phase")
+                    .description("JwtFilter 단계별 처리 시간")
+                    .tag("phase", tagValue(phase))
+                    .register(meterRegistry));
+        }
+        for (Failure failure : Failure.values()) {
+            failures.put(failure, Counter.builder("jwt.validation.failures")
+                    .description("토큰 검증 실패 사유별 횟수")
+                    .tag("reason", tagValue(failure))
+                    .register(meterRegistry));
+        }
+        for (LoginPhase phase : LoginPhase.values()) {
+            loginPhases.put(phase, Timer.builder("jwt.login.phase")
+                    .description("로그인 단계별 처리 시간")
+                    .tag("phase", tagValue(phase))
+                    .register(meterRegistry));
+        }
+        this.loginSucceeded = loginTimer(meterRegistry, "success");
+        this.loginFailed = loginTimer(meterRegistry, "failure");
+        this.rotationSucceeded = rotationTimer(meterRegistry, "rotated");
+        this.rotationRejected = rotationTimer(meterRegistry, "rejected");
+        this.refreshTokenSave = Timer.builder("jwt.refresh_token.save")
+                .description("리프레시 토큰 행을 저장하는 데 걸린 시간 (로그인과 토큰 교체)")
+                .register(meterRegistry);
+    }
+
+    private static Timer loginTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.login")
+                .description("로그인 전체 처리 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Timer rotationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.refresh.rotation")
+                .description("리프레시 토큰 교체(기존 토큰 사용 처리와 새 토큰 발급) 처리 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 토큰 검증 단계의 처리 시간 타이머를 등록합니다.
+     * @param stage 단계 이름 (TokenValidationStage.getName)
+     */
+    public Timer validationStageTimer(String stage) {
+        return Timer.builder("jwt.validation.stage")
+                .description("토큰 검증 단계별 처리 시간")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    public void recordFilterPhase(FilterPhase phase, long nanos) {
+        filterPhases.get(phase).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFailure(Failure failure) {
+        failures.get(failure).increment();
+    }
+
+    public void recordLoginPhase(LoginPhase phase, long nanos) {
+        loginPhases.get(phase).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLogin(boolean succeeded, long nanos) {
+        (succeeded ? loginSucceeded : loginFailed).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRotation(boolean rotated, long nanos) {
+        (rotated ? rotationSucceeded : rotationRejected).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRefreshTokenSave(long nanos) {
+        refreshTokenSave.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
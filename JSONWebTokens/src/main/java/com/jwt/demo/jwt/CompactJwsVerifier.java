@@ -0,0 +1,374 @@
+package com.jwt.demo.jwt;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * CompactJwsVerifier는 TokenProvider가 발급하는 형태의 토큰({"alg":"HS512"} 헤더, jti/sub/auth/rb/ver/uid/nick/exp 클레임)만을 위한
+ * 전용 HS512 compact JWS 검증기입니다. 요청 처리 경로(JwtFilter)에서 jjwt의 범용 파이프라인
+ * (문자열 디코딩, 전체 JSON 맵 파싱, Claims 맵, Date 객체, 예외 기반 흐름)을 거치지 않도록 합니다.
+ *
+ * 스레드별로 재사용하는 Mac 인스턴스로 헤더와 페이로드 바이트의 HMAC을 계산하고, 서명이 맞는 경우에만
+ * 스트리밍 파서로 필요한 클레임만 읽습니다. 실패는 예외 대신 Status 값으로 반환합니다.
+ * 이 검증기가 확실히 판단할 수 없는 토큰(다른 헤더, nbf 클레임, 예상과 다른 클레임 타입 등)은 UNSUPPORTED를 반환하며,
+ * 이 경우 호출자는 기준 구현인 jjwt로 검증해야 합니다.
+ */
+public final class CompactJwsVerifier {
+
+    public enum Status {
+        VALID, // 서명과 만료 시간이 모두 유효함
+        MALFORMED, // compact JWS 형식이 아님 (점이 두 개가 아님)
+        INVALID_SIGNATURE, // 서명이 일치하지 않음
+        EXPIRED, // 서명은 유효하지만 만료됨
+        NO_EXPIRATION, // 서명은 유효하지만 만료 시간이 없음 (발급한 토큰에는 항상 있으므로 거부)
+        UNSUPPORTED // 이 검증기가 처리하지 않는 형태 (jjwt로 검증해야 함)
+    }
+
+    private static final String ALGORITHM = "HmacSHA512";
+    private static final int SIGNATURE_LENGTH = 64; // HS512 서명 길이 (바이트)
+    // TokenProvider가 발급하는 토큰의 헤더 {"alg":"HS512"}를 Base64URL로 인코딩한 값
+    private static final byte[] HS512_HEADER = "eyJhbGciOiJIUzUxMiJ9".getBytes(StandardCharsets.US_ASCII);
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory(); // 스레드 안전하며 재사용 가능
+
+    private final ThreadLocal<MacHolder> macs; // 스레드별 Mac 인스턴스와 결과 버퍼
+
+    public CompactJwsVerifier(byte[] keyBytes) {
+        SecretKeySpec key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> new MacHolder(key));
+        macs.get(); // 키나 알고리즘에 문제가 있으면 생성 시점에 실패하도록 함
+    }
+
+    /**
+     * 토큰의 서명과 만료 시간을 검증하고 필요한 클레임을 읽습니다.
+     * @param token compact JWS 문자열
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @return 검증 결과 (실패 시 클레임은 비어 있음)
+     */
+    public Result verify(String token, long nowMillis) {
+        int length = token.length();
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return Result.MALFORMED; // 점이 세 개 이상
+                }
+            } else if (!isBase64UrlChar(c)) {
+                return Result.UNSUPPORTED; // 공백, 패딩 등은 jjwt의 판단에 맡김
+            }
+        }
+        if (secondDot < 0) {
+            return Result.MALFORMED;
+        }
+        if (secondDot == length - 1) {
+            return Result.UNSUPPORTED; // 서명이 없는 JWT
+        }
+
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII); // 위에서 ASCII 문자만 있음을 확인함
+        if (!regionEquals(bytes, 0, firstDot, HS512_HEADER)) {
+            return Result.UNSUPPORTED; // 다른 알고리즘이나 추가 헤더 필드
+        }
+
+        // 서명 검증: 헤더와 페이로드 바이트의 HMAC을 계산하여 토큰의 서명과 상수 시간으로 비교
+        byte[] signature;
+        byte[] payload;
+        try {
+            signature = decode(bytes, secondDot + 1, length);
+            if (signature.length != SIGNATURE_LENGTH) {
+                return Result.INVALID_SIGNATURE;
+            }
+            if (!MessageDigest.isEqual(macs.get().sign(bytes, secondDot), signature)) {
+                return Result.INVALID_SIGNATURE;
+            }
+            payload = decode(bytes, firstDot + 1, secondDot);
+        } catch (IllegalArgumentException e) {
+            return Result.UNSUPPORTED; // Base64URL 길이가 맞지 않는 경우 등
+        }
+
+        // 서명이 유효한 경우에만 필요한 클레임을 스트리밍으로 읽음
+        Result result = parseClaims(payload);
+        if (result.status != Status.VALID) {
+            return result;
+        }
+        if (result.expiresAtMillis == null) {
+            return Result.NO_EXPIRATION;
+        }
+        if (nowMillis > result.expiresAtMillis) {
+            return Result.EXPIRED; // jjwt와 같이 만료 시각이 현재 시각보다 이전일 때만 만료로 판단
+        }
+        return result;
+    }
+
+    /**
+     * 서명을 검증하지 않고 페이로드의 exp 클레임만 읽습니다.
+     * 서명 검증 전에 이미 만료된 토큰을 거부하는 용도로만 사용해야 하며, 이 값으로 토큰을 허용해서는 안 됩니다.
+     * @param token compact JWS 문자열
+     * @return 만료 시각 (epoch 밀리초), exp 클레임이 없거나 읽을 수 없으면 -1
+     */
+    public static long readUnverifiedExpiration(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0) {
+            return -1;
+        }
+        long expiresAtMillis = -1;
+        try (JsonParser parser = JSON_FACTORY.createParser(Base64.getUrlDecoder().decode(token.substring(firstDot + 1, secondDot)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return -1;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("exp".equals(name) && value == JsonToken.VALUE_NUMBER_INT
+                        && (parser.getNumberType() == JsonParser.NumberType.INT || parser.getNumberType() == JsonParser.NumberType.LONG)) {
+                    long seconds = parser.getLongValue();
+                    // 같은 클레임이 여러 번 있으면 jjwt와 같이 마지막 값을 사용
+                    expiresAtMillis = seconds >= 0 && seconds <= Long.MAX_VALUE / 1000 ? seconds * 1000 : -1;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return -1; // 판단할 수 없으면 서명 검증에 맡김
+        }
+        return expiresAtMillis;
+    }
+
+    private static Result parseClaims(byte[] payload) {
+        String tokenId = null;
+        String subject = null;
+        String authorities = null;
+        Long authorityBits = null;
+        Long expiresAtMillis = null;
+        Long epoch = null;
+        Long userId = null;
+        String nickname = null;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Result.UNSUPPORTED;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "jti" -> {
+                        if (value != JsonToken.VALUE_STRING) {
+                            return Result.UNSUPPORTED;
+                        }
+                        tokenId = parser.getText();
+                    }
+                    case "sub" -> {
+                        if (value != JsonToken.VALUE_STRING) {
+                            return Result.UNSUPPORTED;
+                        }
+                        subject = parser.getText();
+                    }
+                    case "auth" -> {
+                        if (value != JsonToken.VALUE_STRING) {
+                            return Result.UNSUPPORTED;
+                        }
+                        authorities = parser.getText();
+                    }
+                    case "rb" -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() != JsonParser.NumberType.INT
+                                && parser.getNumberType() != JsonParser.NumberType.LONG) {
+                            return Result.UNSUPPORTED;
+                        }
+                        authorityBits = parser.getLongValue();
+                    }
+                    case "ver" -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() != JsonParser.NumberType.INT
+                                && parser.getNumberType() != JsonParser.NumberType.LONG) {
+                            return Result.UNSUPPORTED;
+                        }
+                        epoch = parser.getLongValue();
+                    }
+                    case "uid" -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() != JsonParser.NumberType.INT
+                                && parser.getNumberType() != JsonParser.NumberType.LONG) {
+                            return Result.UNSUPPORTED;
+                        }
+                        userId = parser.getLongValue();
+                    }
+                    case "nick" -> {
+                        if (value != JsonToken.VALUE_STRING) {
+                            return Result.UNSUPPORTED;
+                        }
+                        nickname = parser.getText();
+                    }
+                    case "exp" -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() != JsonParser.NumberType.INT
+                                && parser.getNumberType() != JsonParser.NumberType.LONG) {
+                            return Result.UNSUPPORTED;
+                        }
+                        long seconds = parser.getLongValue();
+                        if (seconds < 0 || seconds > Long.MAX_VALUE / 1000) {
+                            return Result.UNSUPPORTED;
+                        }
+                        expiresAtMillis = seconds * 1000;
+                    }
+                    case "nbf" -> {
+                        return Result.UNSUPPORTED; // 발급하지 않는 클레임이므로 jjwt의 검증에 맡김
+                    }
+                    default -> parser.skipChildren(); // 사용하지 않는 클레임은 값만 건너뜀
+                }
+            }
+            if (token != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                return Result.UNSUPPORTED;
+            }
+        } catch (IOException e) {
+            return Result.UNSUPPORTED; // JSON 형식 오류 등은 jjwt의 판단에 맡김
+        }
+        return new Result(Status.VALID, tokenId, subject, authorities, authorityBits, expiresAtMillis, epoch, userId, nickname);
+    }
+
+    private static byte[] decode(byte[] bytes, int from, int to) {
+        ByteBuffer decoded = Base64.getUrlDecoder().decode(ByteBuffer.wrap(bytes, from, to - from));
+        return decoded.array().length == decoded.remaining() ? decoded.array() : copy(decoded);
+    }
+
+    private static byte[] copy(ByteBuffer buffer) {
+        byte[] result = new byte[buffer.remaining()];
+        buffer.get(result);
+        return result;
+    }
+
+    private static boolean regionEquals(byte[] bytes, int from, int to, byte[] expected) {
+        if (to - from != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (bytes[from + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isBase64UrlChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
+    /**
+     * 스레드별 Mac 인스턴스와 서명 결과 버퍼입니다. Mac은 스레드 안전하지 않으므로 스레드마다 하나씩 둡니다.
+     */
+    private static final class MacHolder {
+
+        private final Mac mac;
+        private final byte[] output = new byte[SIGNATURE_LENGTH];
+
+        MacHolder(SecretKeySpec key) {
+            try {
+                this.mac = Mac.getInstance(ALGORITHM);
+                this.mac.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HS512 Mac을 초기화할 수 없습니다.", e);
+            }
+        }
+
+        byte[] sign(byte[] bytes, int length) {
+            mac.update(bytes, 0, length);
+            try {
+                mac.doFinal(output, 0); // doFinal 후 Mac은 같은 키로 다시 사용할 수 있도록 초기화됨
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException(e);
+            }
+            return output;
+        }
+    }
+
+    /**
+     * 검증 결과입니다. 실패 결과는 미리 만들어 둔 인스턴스를 공유합니다.
+     */
+    public static final class Result {
+
+        static final Result MALFORMED = new Result(Status.MALFORMED);
+        static final Result INVALID_SIGNATURE = new Result(Status.INVALID_SIGNATURE);
+        static final Result EXPIRED = new Result(Status.EXPIRED);
+        static final Result NO_EXPIRATION = new Result(Status.NO_EXPIRATION);
+        static final Result UNSUPPORTED = new Result(Status.UNSUPPORTED);
+
+        private final Status status;
+        private final String tokenId; // jti
+        private final String subject; // sub
+        private final String authorities; // auth (콤마로 구분된 권한 문자열)
+        private final Long authorityBits; // rb (권한 비트마스크)
+        private final Long expiresAtMillis; // exp (epoch 밀리초)
+        private final Long epoch; // ver (토큰 세대)
+        private final Long userId; // uid (사용자 ID)
+        private final String nickname; // nick (닉네임)
+
+        private Result(Status status) {
+            this(status, null, null, null, null, null, null, null, null);
+        }
+
+        private Result(Status status, String tokenId, String subject, String authorities,
+                       Long authorityBits, Long expiresAtMillis, Long epoch, Long userId, String nickname) {
+            this.status = status;
+            this.tokenId = tokenId;
+            this.subject = subject;
+            this.authorities = authorities;
+            this.authorityBits = authorityBits;
+            this.expiresAtMillis = expiresAtMillis;
+            this.epoch = epoch;
+            this.userId = userId;
+            this.nickname = nickname;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public String getTokenId() {
+            return tokenId;
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+
+        public String getAuthorities() {
+            return authorities;
+        }
+
+        public Long getAuthorityBits() {
+            return authorityBits;
+        }
+
+        public long getExpiresAtMillis() {
+            return expiresAtMillis;
+        }
+
+        public Long getEpoch() {
+            return epoch;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public String getNickname() {
+            return nickname;
+        }
+    }
+}
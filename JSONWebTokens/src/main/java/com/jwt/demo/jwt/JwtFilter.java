@@ -1,13 +1,14 @@
 package com.jwt.demo.jwt;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
-import com.jwt.demo.service.TokenBlacklistService;
+import com.jwt.demo.security.TokenValidationPipeline;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -27,7 +28,8 @@ public class JwtFilter extends GenericFilterBean {
 
     public static final String AUTHORIZATION_HEADER = "Authorization"; // HTTP 헤더에서 JWT 토큰을 찾기 위한 키
     private final TokenProvider tokenProvider; // 토큰 생성 및 검증을 위한 객체
-    private final TokenBlacklistService tokenBlacklistService; // 블랙리스트에 등록된 토큰을 관리하는 서비스
+    private final TokenValidationPipeline tokenValidationPipeline; // 형태, 서명, 만료 시간, 폐기 여부를 비용 순서로 확인하는 파이프라인
+    private final AuthMetrics authMetrics; // 단계별 처리 시간과 검증 실패 사유 메트릭
 
     /**
      * HTTP 요청이 필터를 통과할 때 호출되는 메서드로, 요청에서 JWT 토큰을 추출하고 검증하여
@@ -38,24 +40,32 @@ public class JwtFilter extends GenericFilterBean {
         HttpServletRequest httpServletRequest = (HttpServletRequest) servletRequest;
 
         // 요청에서 JWT 토큰을 추출
+        long started = System.nanoTime();
         String jwt = resolveToken(httpServletRequest);
-        String requestURI = httpServletRequest.getRequestURI();
+        long resolved = System.nanoTime();
+        authMetrics.recordFilterPhase(AuthMetrics.FilterPhase.RESOLVE, resolved - started);
 
         // 토큰이 없는 경우 다음 필터로 넘어갑니다.
         if (!StringUtils.hasText(jwt)) {
             filterChain.doFilter(servletRequest, servletResponse);
             return;
         }
+        String requestURI = httpServletRequest.getRequestURI();
+
+        // 비용이 낮은 단계부터 검증하며, 거부되면 이후 단계(서명 검증, 데이터베이스 조회 등)는 실행하지 않음 (거부 사유는 파이프라인이 집계)
+        Optional<VerifiedClaims> verified = tokenValidationPipeline.validate(jwt);
+        long validated = System.nanoTime();
+        authMetrics.recordFilterPhase(AuthMetrics.FilterPhase.VALIDATE, validated - resolved);
 
-        // 토큰이 존재하고, 블랙리스트에 포함되지 않았으며 유효할 경우
-        if (StringUtils.hasText(jwt) && !tokenBlacklistService.isBlacklisted(jwt) && tokenProvider.validateToken(jwt)) {
-            // 토큰으로부터 인증 정보를 추출하고, Security Context에 설정
-            Authentication authentication = tokenProvider.getAuthentication(jwt);
+        if (verified.isPresent()) {
+            // 검증된 클레임으로부터 인증 정보를 생성하고, Security Context에 설정
+            Authentication authentication = tokenProvider.getAuthentication(verified.get(), jwt);
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            authMetrics.recordFilterPhase(AuthMetrics.FilterPhase.AUTHENTICATION, System.nanoTime() - validated);
             log.debug("Security Context에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), requestURI);
         } else {
-            // 토큰이 유효하지 않거나 블랙리스트에 있는 경우 로그 기록
-            log.debug("유효하지 않거나 블랙리스트에 등록된 JWT 토큰입니다, uri: {}", requestURI);
+            // 토큰이 유효하지 않거나 폐기된 경우 로그 기록
+            log.debug("유효하지 않은 JWT 토큰입니다, uri: {}", requestURI);
         }
 
         // 필터 체인에서 다음 필터로 요청을 전달
@@ -5,7 +5,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import com.jwt.demo.service.TokenBlacklistService;
+import com.jwt.demo.security.TokenValidationPipeline;
 
 import lombok.RequiredArgsConstructor;
 
@@ -14,13 +14,14 @@ import lombok.RequiredArgsConstructor;
 public class JwtSecurityConfig extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
     
     private final TokenProvider tokenProvider; // JWT 생성 및 검증을 담당하는 TokenProvider 객체
-    private final TokenBlacklistService tokenBlacklistService; // 블랙리스트 검증을 위한 서비스 추가
+    private final TokenValidationPipeline tokenValidationPipeline; // 토큰 검증 파이프라인 (서명, 만료 시간, 폐기 여부)
+    private final AuthMetrics authMetrics; // JwtFilter 메트릭
 
     @Override
     public void configure(HttpSecurity http) {
         // JwtFilter를 UsernamePasswordAuthenticationFilter 앞에 추가합니다.
         http.addFilterBefore(
-                new JwtFilter(tokenProvider, tokenBlacklistService), // JwtFilter에 TokenBlacklistService 추가
+                new JwtFilter(tokenProvider, tokenValidationPipeline, authMetrics), // 검증은 TokenValidationPipeline에 맡김
                 UsernamePasswordAuthenticationFilter.class
         );
     }
@@ -0,0 +1,57 @@
+package com.jwt.demo.jwt;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jwt.demo.util.TokenDigest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * RejectedTokenCache는 최근 검증에 실패한 토큰의 다이제스트와 실패 사유를 보관하는 크기와 시간 제한이 있는 캐시입니다.
+ * 스캐너나 크리덴셜 스터핑 트래픽이 같은 잘못된 토큰을 반복해서 보내면 서명 검증과 JSON 파싱 없이 바로 거부합니다.
+ * 형식 오류, 만료, 알려진 키로 검증한 서명 불일치처럼 다시 검증해도 결과가 같은 실패만 보관하며, 유효한 토큰은 보관하지 않습니다.
+ * 키 목록에 없는 kid(UNKNOWN_KEY)는 다른 노드가 방금 만든 키일 수 있어 키 목록을 다시 읽으면 검증될 수 있으므로 보관하지 않습니다.
+ * 보관한 실패는 유지 시간이 지날 때까지 그대로 사용됩니다.
+ */
+@Component
+public class RejectedTokenCache {
+
+    private final Cache<TokenDigest, AuthMetrics.Failure> cache; // 토큰 다이제스트 -> 실패 사유
+
+    public RejectedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.rejected-token-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.rejected-token-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize) // 서로 다른 토큰을 대량으로 보내도 메모리 사용량이 고정되도록 제한
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.rejected_tokens"); // 적중 수가 곧 검증 없이 거부한 요청 수
+    }
+
+    /**
+     * 최근에 거부한 토큰인지 조회합니다.
+     * @param digest 토큰 다이제스트
+     * @return 거부 사유 또는 null (캐시에 없거나 유지 시간이 지난 경우)
+     */
+    public AuthMetrics.Failure get(TokenDigest digest) {
+        return cache.getIfPresent(digest);
+    }
+
+    /**
+     * 검증에 실패한 토큰을 저장합니다.
+     * @param digest 토큰 다이제스트
+     * @param failure 실패 사유
+     */
+    public void put(TokenDigest digest, AuthMetrics.Failure failure) {
+        cache.put(digest, failure);
+    }
+}
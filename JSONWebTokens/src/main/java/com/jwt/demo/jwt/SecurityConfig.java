@@ -3,6 +3,7 @@ package com.jwt.demo.jwt;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
@@ -12,7 +13,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
-import com.jwt.demo.service.TokenBlacklistService;
+import com.jwt.demo.security.OffloadedPasswordEncoder;
+import com.jwt.demo.security.PasswordHashingExecutor;
+import com.jwt.demo.security.TokenValidationPipeline;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,22 +25,26 @@ import lombok.RequiredArgsConstructor;
  */
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity // 컨트롤러의 @PreAuthorize 권한 검사를 적용
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final TokenProvider tokenProvider; // JWT 생성 및 검증을 담당하는 TokenProvider
-    private final TokenBlacklistService tokenBlacklistService; // 블랙리스트 검증을 위한 서비스
+    private final TokenValidationPipeline tokenValidationPipeline; // 토큰 검증 파이프라인 (서명, 만료 시간, 폐기 여부)
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint; // 인증 실패 시 처리하는 EntryPoint
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler; // 접근 거부 시 처리하는 핸들러
+    private final PasswordHashingExecutor passwordHashingExecutor; // 비밀번호 해시 전용 작업 풀
+    private final AuthMetrics authMetrics; // 인증 파이프라인 메트릭
 
     /**
      * PasswordEncoder 빈을 생성하여 Spring Security에서 비밀번호 암호화를 처리할 수 있게 합니다.
+     * BCrypt 계산은 요청 스레드가 아닌 PasswordHashingExecutor의 제한된 작업 풀에서 실행됩니다.
      *
      * @return BCryptPasswordEncoder를 사용하여 암호화된 비밀번호를 생성하는 PasswordEncoder
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new OffloadedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor, authMetrics);
     }
 
     /**
@@ -67,11 +74,16 @@ public class SecurityConfig {
         http.sessionManagement(sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         // 접근 제어 설정: 특정 경로는 모든 사용자가 접근 가능하며, 그 외 경로는 인증이 필요
+        // (/actuator/health, /actuator/prometheus는 모니터링 시스템이 토큰 없이 수집할 수 있도록 허용하되,
+        //  액추에이터는 management.server.address에 바인딩된 별도 포트에서만 제공되므로 8080으로는 접근할 수 없음)
+        // (/.well-known/jwks.json은 다른 서비스가 ES256 토큰을 직접 검증할 수 있도록 공개 키를 제공)
         http.authorizeHttpRequests(c -> c.requestMatchers("/api/login", "/api/refresh-token", "/api/signup", "/favicon.ico").permitAll()
+                                          .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                                          .requestMatchers("/.well-known/jwks.json").permitAll()
                                           .anyRequest().authenticated());
 
         // JWT 보안 설정을 적용하여 JwtFilter를 Security Filter Chain에 추가
-        http.apply(new JwtSecurityConfig(tokenProvider, tokenBlacklistService));
+        http.apply(new JwtSecurityConfig(tokenProvider, tokenValidationPipeline, authMetrics));
 
         return http.build();
     }
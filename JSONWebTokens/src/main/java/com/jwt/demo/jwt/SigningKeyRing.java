@@ -0,0 +1,450 @@
+package com.jwt.demo.jwt;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jwt.demo.util.TokenDigest;
+
+import io.jsonwebtoken.io.Decoders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SigningKeyRing은 jwt.signing.algorithm=ES256일 때 토큰 서명에 사용하는 EC P-256 키를 kid별로 관리합니다.
+ * 키는 jwt_signing_key 테이블에 저장하므로 모든 노드가 같은 키로 서명하고 검증하며, 재시작 없이 주기적으로 새 키로 교체합니다.
+ * - 새 키는 활성화되기 publish-ahead-seconds 전에 만들어 JWKS에 먼저 공개하므로, JWKS를 캐시하는 서비스도 새 kid를 미리 받아 둡니다.
+ * - 교체된 키는 그 키로 서명한 가장 긴 토큰(리프레시 토큰)이 만료될 때까지 검증용으로 남습니다.
+ * 검증 시 kid로 키를 찾는 것은 불변 맵 조회 한 번이며, 키 목록이 바뀔 때만 맵과 JWKS 문서를 새로 만들어 교체합니다.
+ * HS512(기본값)에서는 키를 만들지 않고 JWKS도 비어 있습니다. (대칭 키는 공개할 수 없음)
+ *
+ * 개인 키는 키 암호화 키(jwt.signing.key-encryption-key, 없으면 jwt.secret에서 유도)로 AES-GCM 암호화하여 저장하므로,
+ * 데이터베이스나 백업을 읽을 수 있어도 서명 키를 얻을 수 없습니다. kid를 AAD로 사용하여 다른 행의 값과 바꿔치기할 수 없습니다.
+ * 암호화 전에 저장된 행은 읽을 때 암호화하여 다시 저장합니다.
+ */
+@Slf4j
+@Component
+public class SigningKeyRing implements InitializingBean {
+
+    private static final String ES256 = "ES256";
+    private static final String HS512 = "HS512";
+    private static final int COORDINATE_LENGTH = 32; // P-256 좌표 길이 (바이트)
+    private static final long RELOAD_ON_MISS_INTERVAL_MILLIS = 1000; // 모르는 kid로 다시 읽는 최소 간격
+    private static final SecureRandom KEY_ID_RANDOM = new SecureRandom(); // kid 생성용 난수 생성기
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper(); // JWKS 문서 생성
+    private static final byte ENCRYPTED_FORMAT = 1; // 암호화된 개인 키의 첫 바이트 (평문 PKCS#8은 0x30으로 시작)
+    private static final int GCM_IV_LENGTH = 12; // AES-GCM IV 길이 (바이트)
+    private static final int GCM_TAG_BITS = 128; // AES-GCM 인증 태그 길이 (비트)
+    private static final byte[] KEY_ENCRYPTION_CONTEXT = "jwt-signing-key-encryption-v1".getBytes(StandardCharsets.US_ASCII); // jwt.secret에서 키를 유도할 때의 용도 구분 값
+
+    private static final String SELECT_SQL = "SELECT kid, private_key, public_key, activates_at, expires_at "
+            + "FROM jwt_signing_key WHERE algorithm = ? AND expires_at > ?";
+    private static final String INSERT_SQL = "INSERT INTO jwt_signing_key "
+            + "(kid, algorithm, private_key, public_key, activates_at, expires_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM jwt_signing_key WHERE expires_at <= ?";
+    private static final String ENCRYPT_SQL = "UPDATE jwt_signing_key SET private_key = ? WHERE kid = ? AND private_key = ?";
+
+    private final JdbcTemplate jdbcTemplate; // jwt_signing_key 조회와 변경
+    private final boolean asymmetric; // ES256 사용 여부 (false이면 HS512 비밀 키로 서명)
+    private final long rotationIntervalMillis; // 키 하나로 서명하는 기간
+    private final long publishAheadMillis; // 새 키를 활성화 전에 미리 공개하는 시간
+    private final long maxTokenLifetimeMillis; // 가장 긴 토큰의 유효 시간 (교체된 키를 검증용으로 남기는 시간)
+    private final SecretKey keyEncryptionKey; // 개인 키를 저장할 때 사용하는 AES-256 키
+    private final LongSupplier clockMillis; // 현재 시각 (밀리초)
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY; // 현재 키 목록 (키 목록이 바뀔 때만 교체)
+    private final AtomicLong lastReloadMillis = new AtomicLong(); // 마지막으로 테이블을 읽은 시각
+
+    private final Counter rotationCounter; // 이 노드가 새 키를 만든 횟수
+    private final Counter unknownKeyCounter; // 키 목록에 없는 kid로 검증을 요청한 수
+
+    @Autowired
+    public SigningKeyRing(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.signing.algorithm:HS512}") String algorithm,
+            @Value("${jwt.signing.rotation-interval-seconds:86400}") long rotationIntervalSeconds,
+            @Value("${jwt.signing.publish-ahead-seconds:600}") long publishAheadSeconds,
+            @Value("${jwt.token-validity-in-seconds}") long accessTokenValidityInSeconds,
+            @Value("${jwt.refreshtoken-validity-in-seconds}") long refreshTokenValidityInSeconds,
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.signing.key-encryption-key:}") String keyEncryptionKey) {
+        this(jdbcTemplate, meterRegistry, algorithm, rotationIntervalSeconds, publishAheadSeconds,
+                accessTokenValidityInSeconds, refreshTokenValidityInSeconds, secret, keyEncryptionKey, System::currentTimeMillis);
+    }
+
+    SigningKeyRing(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, String algorithm,
+                   long rotationIntervalSeconds, long publishAheadSeconds,
+                   long accessTokenValidityInSeconds, long refreshTokenValidityInSeconds,
+                   String secret, String keyEncryptionKey, LongSupplier clockMillis) {
+        if (!ES256.equalsIgnoreCase(algorithm) && !HS512.equalsIgnoreCase(algorithm)) {
+            throw new IllegalStateException("Unsupported jwt.signing.algorithm: " + algorithm);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.clockMillis = clockMillis;
+        this.keyEncryptionKey = keyEncryptionKey(secret, keyEncryptionKey);
+        this.asymmetric = ES256.equalsIgnoreCase(algorithm);
+        if (asymmetric && this.keyEncryptionKey == null) {
+            throw new IllegalStateException("ES256 signing requires jwt.secret or jwt.signing.key-encryption-key");
+        }
+        this.rotationIntervalMillis = rotationIntervalSeconds * 1000;
+        this.publishAheadMillis = publishAheadSeconds * 1000;
+        this.maxTokenLifetimeMillis = Math.max(accessTokenValidityInSeconds, refreshTokenValidityInSeconds) * 1000;
+
+        this.rotationCounter = Counter.builder("jwt.signing.rotations")
+                .description("이 노드가 새 서명 키를 만든 횟수")
+                .register(meterRegistry);
+        this.unknownKeyCounter = Counter.builder("jwt.signing.unknown_kid")
+                .description("키 목록에 없는 kid로 서명 검증을 요청한 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.signing.keys", this, ring -> ring.snapshot.keys().size())
+                .description("검증에 사용할 수 있는 서명 키 수 (JWKS에 공개된 키 수)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ES256이면 시작 시 키 목록을 읽고, 서명할 키가 없으면 만듭니다. (첫 토큰 발급 전에 키가 준비됨)
+     */
+    @Override
+    public void afterPropertiesSet() {
+        rotate();
+    }
+
+    public boolean isAsymmetric() {
+        return asymmetric;
+    }
+
+    /**
+     * 새 토큰 서명에 사용할 키입니다. ES256일 때만 사용합니다.
+     */
+    public SigningKey getActiveKey() {
+        SigningKey active = snapshot.active();
+        if (active == null) {
+            throw new IllegalStateException("No active JWT signing key");
+        }
+        return active;
+    }
+
+    /**
+     * kid에 해당하는 검증용 공개 키를 찾습니다. 목록에 없으면 다른 노드가 방금 만든 키일 수 있으므로,
+     * 최대 초당 한 번 테이블을 다시 읽어 확인합니다. (모르는 kid를 반복해 보내도 데이터베이스 조회는 늘지 않음)
+     * @param kid 토큰 헤더의 kid
+     * @return 공개 키 또는 null
+     */
+    public PublicKey getVerificationKey(String kid) {
+        SigningKey signingKey = snapshot.byKid().get(kid);
+        if (signingKey == null && asymmetric) {
+            unknownKeyCounter.increment();
+            long now = clockMillis.getAsLong();
+            long last = lastReloadMillis.get();
+            if (now - last >= RELOAD_ON_MISS_INTERVAL_MILLIS && lastReloadMillis.compareAndSet(last, now)) {
+                install(load(now));
+                signingKey = snapshot.byKid().get(kid);
+            }
+        }
+        return signingKey == null ? null : signingKey.publicKey();
+    }
+
+    /**
+     * 공개된 검증 키 목록(JWK Set) JSON 문서입니다. 키 목록이 바뀔 때만 다시 만듭니다.
+     */
+    public String getJwks() {
+        return snapshot.jwks();
+    }
+
+    /**
+     * JWKS 문서의 ETag 값입니다. (따옴표 포함)
+     */
+    public String getJwksEtag() {
+        return snapshot.etag();
+    }
+
+    /**
+     * 키 목록을 다시 읽고, 다음 키가 필요하면 만들어 저장합니다. 여러 노드가 동시에 실행해도 모든 노드가 같은 키를 활성 키로 고릅니다.
+     * - 서명할 키가 없으면(처음 시작, 또는 오래 중단된 뒤) 바로 활성화되는 키를 만듭니다.
+     * - 활성 키의 교체 시각이 publish-ahead-seconds 안으로 다가왔는데 다음 키가 없으면, 교체 시각에 활성화되는 키를 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.check-interval-ms:60000}")
+    public void rotate() {
+        if (!asymmetric) {
+            return;
+        }
+        long now = clockMillis.getAsLong();
+        List<SigningKey> keys = load(now);
+        SigningKey active = selectActive(keys, now, maxTokenLifetimeMillis);
+        boolean hasNext = keys.stream().anyMatch(signingKey -> signingKey.activatesAtMillis() > now);
+        if (active == null) {
+            insert(now);
+            keys = load(now);
+        } else if (!hasNext && now >= active.activatesAtMillis() + rotationIntervalMillis - publishAheadMillis) {
+            insert(Math.max(active.activatesAtMillis() + rotationIntervalMillis, now + publishAheadMillis));
+            keys = load(now);
+        }
+        jdbcTemplate.update(DELETE_SQL, new Timestamp(now)); // 검증에도 더 이상 쓰이지 않는 키 정리
+        install(keys);
+    }
+
+    private List<SigningKey> load(long now) {
+        lastReloadMillis.set(now);
+        List<SigningKey> keys = new ArrayList<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            String kid = rs.getString(1);
+            byte[] stored = rs.getBytes(2);
+            PrivateKey privateKey = null;
+            if (stored.length > 0 && stored[0] == ENCRYPTED_FORMAT) {
+                try {
+                    privateKey = decodePrivateKey(decrypt(kid, stored));
+                } catch (GeneralSecurityException e) {
+                    // 키 암호화 키가 다른 노드가 저장한 키: 검증에는 쓰고, 서명할 키로는 고르지 않음
+                    log.error("JWT 서명 키를 복호화하지 못했습니다. jwt.signing.key-encryption-key(또는 jwt.secret)를 확인하세요: kid={}", kid);
+                }
+            } else {
+                privateKey = decodePrivateKey(stored);
+                encryptStoredKey(kid, stored); // 암호화 전에 저장된 행
+            }
+            keys.add(new SigningKey(kid, privateKey, decodePublicKey(rs.getBytes(3)),
+                    rs.getTimestamp(4).getTime(), rs.getTimestamp(5).getTime()));
+        }, ES256, new Timestamp(now));
+        return keys;
+    }
+
+    private void encryptStoredKey(String kid, byte[] plaintext) {
+        try {
+            jdbcTemplate.update(ENCRYPT_SQL, encrypt(kid, plaintext), kid, plaintext);
+            log.info("암호화되지 않은 JWT 서명 키를 암호화했습니다: kid={}", kid);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 키를 암호화할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * activatesAtMillis에 활성화되는 새 키를 만들어 저장합니다.
+     * 교체가 늦어지는 경우를 위해 교체 예정 시각보다 publish-ahead-seconds만큼 더 서명할 수 있도록 하고,
+     * 그 뒤로 가장 긴 토큰의 유효 시간 동안 검증용으로 남깁니다.
+     */
+    private void insert(long activatesAtMillis) {
+        KeyPair keyPair = generateKeyPair();
+        String kid = newKeyId();
+        long expiresAtMillis = activatesAtMillis + rotationIntervalMillis + publishAheadMillis + maxTokenLifetimeMillis;
+        byte[] encryptedPrivateKey;
+        try {
+            encryptedPrivateKey = encrypt(kid, keyPair.getPrivate().getEncoded());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 키를 암호화할 수 없습니다.", e);
+        }
+        jdbcTemplate.update(INSERT_SQL, kid, ES256, encryptedPrivateKey, keyPair.getPublic().getEncoded(),
+                new Timestamp(activatesAtMillis), new Timestamp(expiresAtMillis));
+        rotationCounter.increment();
+        log.info("JWT 서명 키를 만들었습니다: kid={}, activatesAt={}", kid, new Timestamp(activatesAtMillis));
+    }
+
+    /**
+     * 이미 활성화되었고 가장 긴 토큰이 만료될 때까지 검증할 수 있는 키 중 가장 최근에 활성화된 키를 고릅니다. (같으면 kid 순)
+     * 개인 키를 복호화하지 못한 키는 고르지 않습니다.
+     */
+    static SigningKey selectActive(List<SigningKey> keys, long now, long maxTokenLifetimeMillis) {
+        return keys.stream()
+                .filter(signingKey -> signingKey.privateKey() != null)
+                .filter(signingKey -> signingKey.activatesAtMillis() <= now)
+                .filter(signingKey -> now + maxTokenLifetimeMillis <= signingKey.expiresAtMillis())
+                .max(Comparator.comparingLong(SigningKey::activatesAtMillis).thenComparing(SigningKey::kid))
+                .orElse(null);
+    }
+
+    private void install(List<SigningKey> keys) {
+        Map<String, SigningKey> byKid = new HashMap<>();
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (SigningKey signingKey : keys) {
+            byKid.put(signingKey.kid(), signingKey);
+            jwks.add(toJwk(signingKey.kid(), (ECPublicKey) signingKey.publicKey()));
+        }
+        SigningKey active = selectActive(keys, clockMillis.getAsLong(), maxTokenLifetimeMillis);
+        Snapshot previous = snapshot;
+        Snapshot next = Snapshot.of(active, byKid, jwks);
+        String activeKid = active == null ? null : active.kid();
+        String previousKid = previous.active() == null ? null : previous.active().kid();
+        if (!next.etag().equals(previous.etag()) || !Objects.equals(activeKid, previousKid)) {
+            log.info("JWT 서명 키 목록: {}, active={}", byKid.keySet(), activeKid);
+        }
+        snapshot = next;
+    }
+
+    /**
+     * EC P-256 공개 키를 JWK(RFC 7517) 형식으로 변환합니다.
+     */
+    static Map<String, Object> toJwk(String kid, ECPublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", ES256);
+        jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    /**
+     * 좌표를 부호 없는 32바이트 빅 엔디언으로 맞춘 뒤 Base64 URL 인코딩합니다.
+     */
+    private static String encodeCoordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[COORDINATE_LENGTH];
+        int length = Math.min(bytes.length, COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - length, fixed, COORDINATE_LENGTH - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    /**
+     * 개인 키를 AES-256-GCM으로 암호화합니다. 형식: 형식 바이트(1) + IV(12) + 암호문과 인증 태그
+     */
+    private byte[] encrypt(String kid, byte[] plaintext) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        KEY_ID_RANDOM.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(GCM_TAG_BITS, iv));
+        cipher.updateAAD(kid.getBytes(StandardCharsets.US_ASCII));
+        byte[] ciphertext = cipher.doFinal(plaintext);
+        return ByteBuffer.allocate(1 + GCM_IV_LENGTH + ciphertext.length)
+                .put(ENCRYPTED_FORMAT).put(iv).put(ciphertext).array();
+    }
+
+    private byte[] decrypt(String kid, byte[] stored) throws GeneralSecurityException {
+        if (stored.length <= 1 + GCM_IV_LENGTH) {
+            throw new GeneralSecurityException("Encrypted signing key is too short");
+        }
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, keyEncryptionKey,
+                new GCMParameterSpec(GCM_TAG_BITS, Arrays.copyOfRange(stored, 1, 1 + GCM_IV_LENGTH)));
+        cipher.updateAAD(kid.getBytes(StandardCharsets.US_ASCII));
+        return cipher.doFinal(stored, 1 + GCM_IV_LENGTH, stored.length - 1 - GCM_IV_LENGTH);
+    }
+
+    /**
+     * 키 암호화 키를 만듭니다. jwt.signing.key-encryption-key(Base64, 32바이트)가 있으면 그대로 사용하고,
+     * 없으면 jwt.secret을 키로 한 HMAC-SHA256으로 유도합니다. (jwt.secret과 같은 값을 직접 쓰지 않음)
+     */
+    private static SecretKey keyEncryptionKey(String secret, String configured) {
+        try {
+            if (StringUtils.hasText(configured)) {
+                byte[] key = Decoders.BASE64.decode(configured.trim());
+                if (key.length != 32) {
+                    throw new IllegalStateException("jwt.signing.key-encryption-key must be 32 bytes (Base64)");
+                }
+                return new SecretKeySpec(key, "AES");
+            }
+            if (!StringUtils.hasText(secret)) {
+                return null; // HS512 벤치마크 등 키를 저장하지 않는 경우
+            }
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(Decoders.BASE64.decode(secret), "HmacSHA256"));
+            return new SecretKeySpec(mac.doFinal(KEY_ENCRYPTION_CONTEXT), "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot derive the JWT signing key encryption key", e);
+        }
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("EC P-256 is not available", e);
+        }
+    }
+
+    private static PrivateKey decodePrivateKey(byte[] encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT signing key", e);
+        }
+    }
+
+    private static PublicKey decodePublicKey(byte[] encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT verification key", e);
+        }
+    }
+
+    /**
+     * 128비트 난수를 Base64 URL 인코딩한 22자의 kid를 생성합니다.
+     */
+    private static String newKeyId() {
+        byte[] bytes = new byte[16];
+        KEY_ID_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 서명 키 하나입니다.
+     */
+    public record SigningKey(String kid, PrivateKey privateKey, PublicKey publicKey,
+                             long activatesAtMillis, long expiresAtMillis) {
+    }
+
+    /**
+     * 한 시점의 키 목록입니다. 검증 경로는 이 객체만 읽으므로 잠금이 필요 없습니다.
+     */
+    private record Snapshot(SigningKey active, Map<String, SigningKey> byKid, List<Map<String, Object>> keys,
+                            String jwks, String etag) {
+
+        static final Snapshot EMPTY = of(null, Map.of(), List.of());
+
+        static Snapshot of(SigningKey active, Map<String, SigningKey> byKid, List<Map<String, Object>> keys) {
+            List<Map<String, Object>> sorted = new ArrayList<>(keys);
+            sorted.sort(Comparator.comparing(jwk -> (String) jwk.get("kid"))); // 노드와 관계없이 같은 문서와 ETag
+            String jwks;
+            try {
+                jwks = OBJECT_MAPPER.writeValueAsString(Map.of("keys", sorted));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+            return new Snapshot(active, Map.copyOf(byKid), List.copyOf(sorted), jwks, "\"" + TokenDigest.of(jwks) + "\"");
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package com.jwt.demo.jwt;
 
 import java.security.Key;
+import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -18,22 +20,28 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import com.jwt.demo.entities.RefreshToken;
 import com.jwt.demo.repository.RefreshTokenRepository;
+import com.jwt.demo.security.AuthorityRegistry;
+import com.jwt.demo.service.TokenEpochService;
+import com.jwt.demo.util.TokenDigest;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.userdetails.User;
 
 // JWT 토큰 생성, 리프레시 토큰 저장, 토큰 검증 및 인증정보 추출을 담당하는 클래스입니다.
 @Slf4j
@@ -41,26 +49,63 @@ import org.springframework.security.core.userdetails.User;
 public class TokenProvider implements InitializingBean {
 
     private static final String AUTHORITIES_KEY = "auth"; // 권한 정보를 담을 클레임 키
+    private static final String AUTHORITY_BITS_KEY = "rb"; // 권한 정보를 비트마스크로 담을 클레임 키 (authorities-claim-format=bitmask)
+    private static final String EPOCH_KEY = "ver"; // 사용자별 토큰 세대를 담을 클레임 키 (0이면 생략)
+    private static final String USER_ID_KEY = "uid"; // 사용자 ID를 담을 클레임 키 (identity-claims.enabled)
+    private static final String NICKNAME_KEY = "nick"; // 닉네임을 담을 클레임 키 (identity-claims.enabled)
+    private static final SecureRandom TOKEN_ID_RANDOM = new SecureRandom(); // 토큰 고유 식별자(jti) 생성용 난수 생성기
     private final String secret; // JWT 생성에 사용될 비밀 키
     private final long accessTokenValidityInMilliseconds; // 액세스 토큰의 유효시간 (밀리초 단위)
     private final long refreshTokenValidityInMilliseconds; // 리프레시 토큰의 유효시간 (밀리초 단위)
+    private final boolean bitmaskAuthorities; // 새 토큰에 권한을 비트마스크 클레임으로 기록할지 여부
+    private final boolean identityClaims; // 새 토큰에 사용자 ID와 닉네임을 기록할지 여부
     private Key key; // 암호화 키
+    private JwtParser jwtParser; // 서명 검증용 파서 (초기화 시 한 번만 생성하여 재사용)
+    private CompactJwsVerifier compactJwsVerifier; // 발급한 형태의 토큰 전용 검증기 (비활성화 시 null)
+    private final boolean compactVerifierEnabled; // 전용 검증기 사용 여부
+    private final int maxTokenLength; // 검증을 시도할 토큰의 최대 길이 (넘으면 해시나 서명 검증 없이 거부)
     private final String secretKey = "your-secret-key";
 
     @Autowired
     private RefreshTokenRepository refreshTokenRepository; // 리프레시 토큰 저장소
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache; // 검증된 토큰 클레임 캐시
+
+    @Autowired
+    private RejectedTokenCache rejectedTokenCache; // 최근 검증에 실패한 토큰 캐시
+
+    @Autowired
+    private TokenEpochService tokenEpochService; // 사용자별 토큰 세대
+
+    @Autowired
+    private SigningKeyRing signingKeyRing; // ES256 서명 키 (kid별)
+
+    @Autowired
+    private AuthorityRegistry authorityRegistry; // 권한 이름별 공유 GrantedAuthority 인스턴스
+
+    @Autowired
+    private AuthMetrics authMetrics; // 검증 실패 사유별 카운터 등 인증 메트릭
+
     public TokenProvider(
             @Value("${jwt.secret}") String secret, // 비밀 키를 application.yml에서 주입
             @Value("${jwt.token-validity-in-seconds}") long accessTokenValidityInSeconds, // 액세스 토큰 유효시간
-            @Value("${jwt.refreshtoken-validity-in-seconds}") long refreshTokenValidityInSeconds) { // 리프레시 토큰 유효시간
+            @Value("${jwt.refreshtoken-validity-in-seconds}") long refreshTokenValidityInSeconds, // 리프레시 토큰 유효시간
+            @Value("${jwt.authorities-claim-format:string}") String authoritiesClaimFormat, // 권한 클레임 형식 (string 또는 bitmask)
+            @Value("${jwt.compact-verifier.enabled:true}") boolean compactVerifierEnabled, // 전용 검증기 사용 여부
+            @Value("${jwt.max-token-length:4096}") int maxTokenLength, // 검증을 시도할 토큰의 최대 길이
+            @Value("${jwt.identity-claims.enabled:true}") boolean identityClaims) { // 사용자 ID와 닉네임 클레임 기록 여부
         this.secret = secret;
+        this.identityClaims = identityClaims;
+        this.compactVerifierEnabled = compactVerifierEnabled;
+        this.maxTokenLength = maxTokenLength;
+        this.bitmaskAuthorities = "bitmask".equalsIgnoreCase(authoritiesClaimFormat);
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000; // 초를 밀리초로 변환
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000; // 초를 밀리초로 변환
     }
 
     /**
-     * 초기화 작업 수행, secret 값을 Base64로 디코딩하여 key 변수에 설정합니다.
+     * 초기화 작업 수행, secret 값을 Base64로 디코딩하여 key 변수에 설정하고 서명 검증용 파서를 생성합니다.
      */
     public void afterPropertiesSet() {
         try {
@@ -69,6 +114,17 @@ public class TokenProvider implements InitializingBean {
         } catch (IllegalArgumentException e) {
             throw new IllegalStateException("Invalid JWT secret key");
         }
+        // 파서는 불변이며 스레드 안전하므로 재사용, 검증 키는 토큰 헤더의 kid로 고름
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            @Override
+            @SuppressWarnings("rawtypes")
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                return resolveVerificationKey(header.getKeyId());
+            }
+        }).build();
+        if (compactVerifierEnabled) {
+            this.compactJwsVerifier = new CompactJwsVerifier(key.getEncoded()); // jjwt와 같은 키로 검증
+        }
     }
 
     /**
@@ -78,21 +134,89 @@ public class TokenProvider implements InitializingBean {
      * @return 생성된 JWT 토큰
      */
     public String createToken(Authentication authentication, boolean isAccessToken) {
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority) // 권한 이름 추출
-                .collect(Collectors.joining(",")); // 권한들을 콤마로 구분하여 문자열로 결합
-
         long now = (new Date()).getTime(); // 현재 시간
         Date validity = new Date(now + (isAccessToken ? accessTokenValidityInMilliseconds : refreshTokenValidityInMilliseconds));
 
-        return Jwts.builder()
-                .setSubject(authentication.getName()) // 사용자 이름을 JWT의 subject로 설정
-                .claim(AUTHORITIES_KEY, authorities) // 권한 정보를 클레임에 추가
-                .signWith(key, SignatureAlgorithm.HS512) // 암호화 알고리즘과 키 설정
+        JwtBuilder builder = Jwts.builder()
+                .setId(newTokenId()) // 토큰 고유 식별자(jti) 설정, 블랙리스트 등록 시 키로 사용
+                .setSubject(authentication.getName()); // 사용자 이름을 JWT의 subject로 설정
+
+        // 사용자의 현재 세대를 기록하여, 세대가 올라가면(모든 토큰 폐기) 이 토큰도 함께 폐기되도록 함
+        long epoch = tokenEpochService.currentEpoch(authentication.getName());
+        if (epoch > 0) {
+            builder.claim(EPOCH_KEY, epoch);
+        }
+
+        // 사용자 ID와 닉네임을 기록하여, 현재 사용자 정보 조회(/api/user)가 데이터베이스를 조회하지 않도록 함
+        if (identityClaims && authentication.getPrincipal() instanceof TokenUserPrincipal principal
+                && principal.hasIdentityClaims()) {
+            builder.claim(USER_ID_KEY, principal.getUserId());
+            if (principal.getNickname() != null) {
+                builder.claim(NICKNAME_KEY, principal.getNickname());
+            }
+        }
+
+        // bitmask 형식이면 권한을 작은 정수 하나로 기록하고, 비트가 지정되지 않은 권한이 있으면 문자열 형식으로 기록
+        long authorityBits = bitmaskAuthorities ? authorityRegistry.encode(authentication.getAuthorities()) : -1;
+        if (authorityBits >= 0) {
+            builder.claim(AUTHORITY_BITS_KEY, authorityBits); // 권한 비트마스크를 클레임에 추가
+        } else {
+            String authorities = authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority) // 권한 이름 추출
+                    .collect(Collectors.joining(",")); // 권한들을 콤마로 구분하여 문자열로 결합
+            builder.claim(AUTHORITIES_KEY, authorities); // 권한 정보를 클레임에 추가
+        }
+
+        if (signingKeyRing.isAsymmetric()) {
+            // ES256이면 현재 활성 키로 서명하고, 검증하는 쪽이 JWKS에서 공개 키를 찾을 수 있도록 kid를 헤더에 기록
+            SigningKeyRing.SigningKey signingKey = signingKeyRing.getActiveKey();
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                    .signWith(signingKey.privateKey(), SignatureAlgorithm.ES256);
+        } else {
+            builder.signWith(key, SignatureAlgorithm.HS512); // 암호화 알고리즘과 키 설정
+        }
+
+        return builder
                 .setExpiration(validity) // 만료 시간 설정
                 .compact(); // 토큰 생성 및 반환
     }
 
+    /**
+     * 토큰 헤더의 kid로 서명 검증 키를 고릅니다.
+     * kid가 없으면 HS512 비밀 키(ES256으로 전환하기 전에 발급된 토큰 포함)를, 있으면 키 목록의 ES256 공개 키를 사용합니다.
+     * 알고리즘과 키 종류가 맞지 않는 토큰(예: kid가 있는 HS512 토큰)은 jjwt가 거부합니다.
+     * 목록에 없는 kid는 서명 불일치와 구분하여 UnknownSigningKeyException으로 알립니다. (키 목록을 다시 읽으면 검증될 수 있음)
+     */
+    private Key resolveVerificationKey(String kid) {
+        if (kid == null) {
+            return key;
+        }
+        Key publicKey = signingKeyRing.getVerificationKey(kid);
+        if (publicKey == null) {
+            throw new UnknownSigningKeyException(kid);
+        }
+        return publicKey;
+    }
+
+    /**
+     * 토큰 헤더의 kid가 키 목록에 없을 때 발생하는 예외입니다.
+     */
+    private static final class UnknownSigningKeyException extends io.jsonwebtoken.security.SignatureException {
+
+        UnknownSigningKeyException(String kid) {
+            super("Unknown signing key: " + kid);
+        }
+    }
+
+    /**
+     * 128비트 난수를 Base64 URL 인코딩한 22자의 토큰 고유 식별자를 생성합니다.
+     */
+    private static String newTokenId() {
+        byte[] bytes = new byte[16];
+        TOKEN_ID_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
     /**
      * 리프레시 토큰을 생성하고 저장합니다.
      * @param authentication 인증 객체
@@ -109,49 +233,271 @@ public class TokenProvider implements InitializingBean {
 
         String username = authentication.getName(); 
         RefreshToken refreshTokenEntity = new RefreshToken(refreshToken, username, expiryDate, false, deviceInfo);
+        long saveStarted = System.nanoTime();
         refreshTokenRepository.save(refreshTokenEntity);
+        authMetrics.recordRefreshTokenSave(System.nanoTime() - saveStarted);
 
         return refreshToken;
     }
 
     /**
-     * JWT 토큰에서 인증 정보를 추출하여 Authentication 객체를 생성합니다.
+     * JWT 토큰을 한 번만 파싱하여 서명과 만료 시간을 검증하고, 검증된 클레임을 반환합니다.
+     * 비용이 낮은 순서(형태 확인, 검증 결과 캐시, 서명 없이 읽은 exp, 서명 검증)로 확인하며, 폐기 여부는 확인하지 않습니다.
+     * 요청 인증에는 폐기 여부까지 확인하는 TokenValidationPipeline을 사용합니다.
      * @param token JWT 토큰
-     * @return 인증 정보를 포함한 Authentication 객체
+     * @return 유효한 토큰이면 검증된 클레임, 그렇지 않으면 빈 Optional
      */
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-
-        // 클레임에서 권한 정보를 추출하여 GrantedAuthority 리스트로 변환
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(",")) // 권한 문자열을 콤마로 분리
-                        .map(SimpleGrantedAuthority::new) // SimpleGrantedAuthority 객체로 변환
-                        .collect(Collectors.toList());
+    public Optional<VerifiedClaims> verify(String token) {
+        if (!hasCompactShape(token)) {
+            return fail(AuthMetrics.Failure.MALFORMED);
+        }
 
-        User principal = new User(claims.getSubject(), "", authorities); // 사용자 정보를 가진 User 객체 생성
+        TokenDigest digest = TokenDigest.of(token);
+        VerifiedClaims cached = cachedClaims(digest);
+        if (cached != null) {
+            return Optional.of(cached); // 이미 검증된 토큰이면 파싱 없이 반환
+        }
+        AuthMetrics.Failure rejected = cachedRejection(digest);
+        if (rejected != null) {
+            return fail(rejected); // 최근 거부한 토큰이면 서명 검증 없이 거부
+        }
+        if (isPastExpiration(token, digest)) {
+            return fail(AuthMetrics.Failure.EXPIRED);
+        }
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities); // 인증 객체 생성하여 반환
+        Verification verification = verifySignature(token, digest);
+        return verification.claims() != null ? Optional.of(verification.claims()) : fail(verification.failure());
     }
 
     /**
-     * JWT 토큰의 유효성을 검증하는 메서드입니다.
+     * 발급한 토큰의 형태(최대 길이 이하, 점 두 개로 나뉜 Base64 URL 문자열)인지 확인합니다.
+     * 암호 연산이나 캐시 조회 전에 실행하여, 형태가 다른 토큰은 문자 한 번 훑는 비용으로 거부합니다.
      * @param token JWT 토큰
-     * @return 유효한 토큰이면 true, 그렇지 않으면 false
+     * @return 발급한 토큰의 형태이면 true
      */
-    public boolean validateToken(String token) {
+    public boolean hasCompactShape(String token) {
+        if (!StringUtils.hasText(token)) {
+            return false;
+        }
+        int length = token.length();
+        if (length > maxTokenLength) {
+            return false;
+        }
+        int dots = 0;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (++dots > 2) {
+                    return false;
+                }
+            } else if (!CompactJwsVerifier.isBase64UrlChar(c)) {
+                return false; // 공백, 패딩, 표준 Base64 문자 등 발급한 토큰에 없는 문자
+            }
+        }
+        return dots == 2;
+    }
+
+    /**
+     * 이미 검증된 토큰의 클레임을 캐시에서 조회합니다.
+     * @param digest 토큰 다이제스트
+     * @return 검증된 클레임 또는 null
+     */
+    public VerifiedClaims cachedClaims(TokenDigest digest) {
+        return verifiedTokenCache.get(digest);
+    }
+
+    /**
+     * 최근 검증에 실패한 토큰인지 조회합니다.
+     * @param digest 토큰 다이제스트
+     * @return 실패 사유 또는 null
+     */
+    public AuthMetrics.Failure cachedRejection(TokenDigest digest) {
+        return rejectedTokenCache.get(digest);
+    }
+
+    /**
+     * 서명을 검증하지 않고 exp 클레임만 읽어 이미 만료된 토큰인지 확인합니다. 만료된 토큰은 거부 캐시에 보관합니다.
+     * 거부하는 데에만 사용하므로, exp를 읽을 수 없거나 만료되지 않았으면 서명 검증에서 판단합니다.
+     * @param token 형태 확인을 통과한 JWT 토큰
+     * @param digest 토큰 다이제스트
+     * @return 만료 시각이 지났으면 true
+     */
+    public boolean isPastExpiration(String token, TokenDigest digest) {
+        long expiresAtMillis = CompactJwsVerifier.readUnverifiedExpiration(token);
+        if (expiresAtMillis >= 0 && System.currentTimeMillis() > expiresAtMillis) {
+            rejectedTokenCache.put(digest, AuthMetrics.Failure.EXPIRED);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 서명과 클레임을 검증합니다. 성공한 결과는 검증 결과 캐시에, 같은 토큰에 대해 결과가 바뀌지 않는 실패는 거부 캐시에 보관합니다.
+     * 모르는 kid(UNKNOWN_KEY)는 키 목록을 다시 읽은 뒤에는 검증될 수 있으므로 보관하지 않습니다.
+     * 발급한 형태의 토큰은 전용 검증기로 처리하고, 판단할 수 없는 토큰만 jjwt로 검증합니다.
+     * 실패 사유는 호출자가 메트릭으로 기록합니다.
+     * @param token 형태 확인을 통과한 JWT 토큰
+     * @param digest 토큰 다이제스트
+     * @return 검증된 클레임 또는 실패 사유
+     */
+    public Verification verifySignature(String token, TokenDigest digest) {
+        Verification verification = parseAndVerify(token);
+        if (verification.claims() != null) {
+            verifiedTokenCache.put(digest, verification.claims());
+        } else if (verification.failure() != AuthMetrics.Failure.UNKNOWN_KEY) {
+            rejectedTokenCache.put(digest, verification.failure());
+        }
+        return verification;
+    }
+
+    private Verification parseAndVerify(String token) {
+        if (compactJwsVerifier != null) {
+            CompactJwsVerifier.Result result = compactJwsVerifier.verify(token, System.currentTimeMillis());
+            switch (result.getStatus()) {
+                case VALID -> {
+                    return Verification.valid(toVerifiedClaims(result, token));
+                }
+                case MALFORMED -> {
+                    return Verification.failed(AuthMetrics.Failure.MALFORMED);
+                }
+                case INVALID_SIGNATURE -> {
+                    return Verification.failed(AuthMetrics.Failure.BAD_SIGNATURE);
+                }
+                case EXPIRED -> {
+                    return Verification.failed(AuthMetrics.Failure.EXPIRED);
+                }
+                case NO_EXPIRATION -> {
+                    return Verification.failed(AuthMetrics.Failure.NO_EXPIRATION);
+                }
+                case UNSUPPORTED -> {
+                    // 아래의 jjwt 검증으로 진행
+                }
+            }
+        }
+
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token); // 토큰을 파싱 및 검증
-            return true; // 유효한 토큰일 경우 true 반환
-        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            log.info("잘못된 JWT 서명입니다."); // 서명이 잘못된 경우 로그 출력
+            Claims claims = jwtParser.parseClaimsJws(token).getBody(); // 토큰을 파싱 및 검증
+            if (claims.getExpiration() == null) {
+                // 발급한 토큰에는 항상 만료 시간이 있으므로 거부
+                return Verification.failed(AuthMetrics.Failure.NO_EXPIRATION);
+            }
+            return Verification.valid(toVerifiedClaims(claims, token));
+        } catch (UnknownSigningKeyException e) {
+            return Verification.failed(AuthMetrics.Failure.UNKNOWN_KEY); // 키 목록에 없는 kid (아직 읽지 못한 새 키일 수 있음)
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            return Verification.failed(AuthMetrics.Failure.BAD_SIGNATURE); // 서명이 잘못된 경우
+        } catch (MalformedJwtException e) {
+            return Verification.failed(AuthMetrics.Failure.MALFORMED); // JWT 형식이 아닌 경우
         } catch (ExpiredJwtException e) {
-            log.info("만료된 JWT 토큰입니다."); // 토큰이 만료된 경우 로그 출력
+            return Verification.failed(AuthMetrics.Failure.EXPIRED); // 토큰이 만료된 경우
         } catch (UnsupportedJwtException e) {
-            log.info("지원되지 않는 JWT 토큰입니다."); // 지원하지 않는 형식의 토큰일 경우 로그 출력
+            return Verification.failed(AuthMetrics.Failure.UNSUPPORTED); // 지원하지 않는 형식의 토큰일 경우
         } catch (IllegalArgumentException e) {
-            log.info("JWT 토큰이 잘못되었습니다."); // 잘못된 형식의 토큰일 경우 로그 출력
+            return Verification.failed(AuthMetrics.Failure.MALFORMED); // 잘못된 형식의 토큰일 경우
         }
-        return false; // 유효하지 않은 토큰일 경우 false 반환
+    }
+
+    /**
+     * 검증 실패를 사유별 카운터에 기록하고 빈 Optional을 반환합니다.
+     * 실패는 메트릭으로 집계하므로, 요청마다 남는 로그는 디버그 수준으로만 기록합니다.
+     */
+    private Optional<VerifiedClaims> fail(AuthMetrics.Failure failure) {
+        authMetrics.recordFailure(failure);
+        log.debug("JWT 토큰 검증에 실패했습니다: {}", failure);
+        return Optional.empty();
+    }
+
+    /**
+     * 서명 검증 결과입니다. 성공하면 claims가, 실패하면 failure가 채워집니다.
+     */
+    public record Verification(VerifiedClaims claims, AuthMetrics.Failure failure) {
+
+        static Verification valid(VerifiedClaims claims) {
+            return new Verification(claims, null);
+        }
+
+        static Verification failed(AuthMetrics.Failure failure) {
+            return new Verification(null, failure);
+        }
+    }
+
+    /**
+     * 파싱된 클레임을 VerifiedClaims로 변환합니다.
+     * 권한은 비트마스크(rb) 클레임이 있으면 그것을, 없으면 문자열(auth) 클레임을 사용하므로 두 형식의 토큰이 함께 동작합니다.
+     * jti가 없는 이전 형식의 토큰은 토큰 문자열 전체를 식별자로 사용하여 블랙리스트에 등록할 수 있도록 합니다.
+     */
+    private VerifiedClaims toVerifiedClaims(Claims claims, String token) {
+        Object bits = claims.get(AUTHORITY_BITS_KEY);
+        Object auth = claims.get(AUTHORITIES_KEY);
+        Object epoch = claims.get(EPOCH_KEY);
+        Object userId = claims.get(USER_ID_KEY);
+        Object nickname = claims.get(NICKNAME_KEY);
+        return VerifiedClaims.builder()
+                .tokenId(claims.getId() != null ? claims.getId() : token)
+                .subject(claims.getSubject())
+                .authorities(toAuthorities(bits instanceof Number mask ? mask.longValue() : null,
+                        auth == null ? null : auth.toString()))
+                .expiresAtMillis(claims.getExpiration().getTime())
+                .epoch(epoch instanceof Number number ? number.longValue() : 0)
+                .userId(userId instanceof Number number ? number.longValue() : null)
+                .nickname(nickname instanceof String text ? text : null)
+                .build();
+    }
+
+    /**
+     * 전용 검증기의 결과를 VerifiedClaims로 변환합니다. (jjwt 경로와 같은 규칙 적용)
+     */
+    private VerifiedClaims toVerifiedClaims(CompactJwsVerifier.Result result, String token) {
+        return VerifiedClaims.builder()
+                .tokenId(result.getTokenId() != null ? result.getTokenId() : token)
+                .subject(result.getSubject())
+                .authorities(toAuthorities(result.getAuthorityBits(), result.getAuthorities()))
+                .expiresAtMillis(result.getExpiresAtMillis())
+                .epoch(result.getEpoch() != null ? result.getEpoch() : 0)
+                .userId(result.getUserId())
+                .nickname(result.getNickname())
+                .build();
+    }
+
+    private List<GrantedAuthority> toAuthorities(Long bits, String auth) {
+        if (bits != null) {
+            // 비트마스크 클레임은 미리 계산된 변환표에서 한 번에 조회
+            return authorityRegistry.decode(bits);
+        }
+        // 클레임에서 권한 정보를 추출하여 GrantedAuthority 리스트로 변환 (같은 클레임 문자열은 한 번만 파싱하고 공유 인스턴스 사용)
+        return auth == null ? List.of() : authorityRegistry.parse(auth);
+    }
+
+    /**
+     * 검증된 클레임으로부터 Authentication 객체를 생성합니다.
+     * @param claims 검증된 클레임
+     * @param token JWT 토큰 (credentials로 사용)
+     * @return 인증 정보를 포함한 Authentication 객체
+     */
+    public Authentication getAuthentication(VerifiedClaims claims, String token) {
+        TokenUserPrincipal principal = TokenUserPrincipal.of(claims); // 클레임의 사용자 정보를 가진 인증 주체 생성
+
+        return new UsernamePasswordAuthenticationToken(principal, token, claims.getAuthorities()); // 인증 객체 생성하여 반환
+    }
+
+    /**
+     * JWT 토큰에서 인증 정보를 추출하여 Authentication 객체를 생성합니다.
+     * @param token JWT 토큰
+     * @return 인증 정보를 포함한 Authentication 객체
+     */
+    public Authentication getAuthentication(String token) {
+        VerifiedClaims claims = verify(token)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid JWT token"));
+        return getAuthentication(claims, token);
+    }
+
+    /**
+     * JWT 토큰의 유효성을 검증하는 메서드입니다.
+     * @param token JWT 토큰
+     * @return 유효한 토큰이면 true, 그렇지 않으면 false
+     */
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
     
     /**
@@ -160,16 +506,8 @@ public class TokenProvider implements InitializingBean {
      * @return 남은 만료 시간을 Duration으로 반환
      */
     public Duration getExpiration(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        Date expiration = claims.getExpiration();
-        long nowMillis = System.currentTimeMillis();
-        long expirationMillis = expiration.getTime();
-
-        return Duration.ofMillis(expirationMillis - nowMillis);
+        return verify(token)
+                .map(VerifiedClaims::getRemaining)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid JWT token"));
     }
 }
@@ -0,0 +1,48 @@
+package com.jwt.demo.jwt;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * TokenUserPrincipal은 사용자 이름과 권한에 더해 사용자 ID와 닉네임을 담는 인증 주체입니다.
+ * 로그인 시에는 CustomUserDetailsService가 데이터베이스(캐시)의 값으로 만들고, TokenProvider는 이 값을 uid/nick 클레임으로 기록합니다.
+ * 요청 인증 시에는 JwtFilter가 검증된 클레임으로 만들므로, 현재 사용자의 기본 정보는 데이터베이스 조회 없이 읽을 수 있습니다.
+ * uid/nick 클레임이 없는 토큰(이전에 발급된 토큰, identity-claims 비활성화)으로 만든 경우 userId와 nickname은 null입니다.
+ */
+public class TokenUserPrincipal extends User {
+
+    private final Long userId; // 사용자 ID (없으면 null)
+    private final String nickname; // 닉네임 (없으면 null)
+
+    public TokenUserPrincipal(String username, String password, Collection<? extends GrantedAuthority> authorities,
+                              Long userId, String nickname) {
+        super(username, password, authorities);
+        this.userId = userId;
+        this.nickname = nickname;
+    }
+
+    /**
+     * 검증된 클레임으로 인증 주체를 만듭니다. (비밀번호 없음)
+     */
+    public static TokenUserPrincipal of(VerifiedClaims claims) {
+        return new TokenUserPrincipal(claims.getSubject(), "", claims.getAuthorities(),
+                claims.getUserId(), claims.getNickname());
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    /**
+     * 토큰만으로 사용자 정보를 응답할 수 있는지(uid 클레임이 있는 토큰인지) 여부입니다.
+     */
+    public boolean hasIdentityClaims() {
+        return userId != null;
+    }
+}
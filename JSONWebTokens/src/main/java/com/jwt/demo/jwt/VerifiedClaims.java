@@ -0,0 +1,43 @@
+package com.jwt.demo.jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * VerifiedClaims는 서명과 만료 시간 검증을 통과한 JWT 토큰의 클레임을 담는 불변 객체입니다.
+ * TokenProvider가 토큰을 한 번만 파싱하여 생성하며, JwtFilter, 토큰 갱신, 로그아웃 처리에서 재사용합니다.
+ */
+@Getter
+@Builder
+public class VerifiedClaims {
+
+    private final String tokenId; // 토큰 고유 식별자 (jti), 블랙리스트 키로 사용
+    private final String subject; // 토큰의 subject (사용자 이름)
+    private final List<GrantedAuthority> authorities; // 토큰에 담긴 권한 목록
+    private final long expiresAtMillis; // 토큰 만료 시각 (epoch 밀리초)
+    private final long epoch; // 토큰 세대 (ver 클레임, 없으면 0), 사용자의 현재 세대보다 작으면 폐기된 토큰
+    private final Long userId; // 사용자 ID (uid 클레임, 이전에 발급된 토큰에는 없음)
+    private final String nickname; // 닉네임 (nick 클레임, 이전에 발급된 토큰에는 없음)
+
+    /**
+     * 현재 시각 기준으로 토큰의 남은 유효 시간을 반환합니다.
+     */
+    public Duration getRemaining() {
+        return Duration.ofMillis(expiresAtMillis - System.currentTimeMillis());
+    }
+
+    /**
+     * 토큰 만료 시각을 시스템 기본 시간대의 LocalDateTime으로 반환합니다.
+     */
+    public LocalDateTime getExpiresAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,48 @@
+package com.jwt.demo.jwt;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jwt.demo.util.ExpireAtExpiry;
+import com.jwt.demo.util.TokenDigest;
+
+/**
+ * VerifiedTokenCache는 이미 검증된 토큰의 클레임을 토큰 다이제스트 기준으로 보관하는 크기 제한 캐시입니다.
+ * 각 항목은 토큰의 만료 시각(exp)에 맞춰 제거되므로, 같은 Bearer 토큰으로 반복되는 요청은 서명 검증과 JSON 파싱을 건너뜁니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<TokenDigest, VerifiedClaims> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-token-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize) // 최대 항목 수를 제한하여 메모리 사용량을 고정
+                .expireAfter(new ExpireAtExpiry<TokenDigest, VerifiedClaims>(VerifiedClaims::getExpiresAtMillis)) // 토큰 만료 시각에 항목 제거
+                .build();
+    }
+
+    /**
+     * 캐시에 보관된 검증 결과를 조회합니다.
+     * @param digest 토큰 다이제스트
+     * @return 검증된 클레임 또는 null (캐시에 없거나 만료된 경우)
+     */
+    public VerifiedClaims get(TokenDigest digest) {
+        return cache.getIfPresent(digest);
+    }
+
+    /**
+     * 검증된 클레임을 캐시에 저장합니다. 이미 만료된 토큰은 저장하지 않습니다.
+     * @param digest 토큰 다이제스트
+     * @param claims 검증된 클레임
+     */
+    public void put(TokenDigest digest, VerifiedClaims claims) {
+        if (claims.getRemaining().compareTo(Duration.ZERO) > 0) {
+            cache.put(digest, claims);
+        }
+    }
+}
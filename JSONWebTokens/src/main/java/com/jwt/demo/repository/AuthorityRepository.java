@@ -0,0 +1,12 @@
+package com.jwt.demo.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.jwt.demo.entities.Authority;
+
+/**
+ * AuthorityRepository는 Authority 엔티티(권한 목록)에 대한 데이터베이스 연산을 수행하는 리포지토리입니다.
+ * 권한 목록은 작고 거의 바뀌지 않으므로 주로 AuthorityRegistry를 채우는 데 사용됩니다.
+ */
+public interface AuthorityRepository extends JpaRepository<Authority, String> {
+}
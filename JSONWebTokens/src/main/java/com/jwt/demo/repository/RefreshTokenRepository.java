@@ -1,14 +1,85 @@
 package com.jwt.demo.repository;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.jwt.demo.dto.SessionDto;
 import com.jwt.demo.entities.RefreshToken;
 
 /**
  * RefreshTokenRepository는 RefreshToken 엔티티에 대한 데이터베이스 연산을 수행하는 리포지토리입니다.
  * JpaRepository 인터페이스를 상속하여 기본적인 CRUD 연산을 지원합니다.
  */
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
-    // JpaRepository를 상속하면 기본 CRUD 메서드가 제공되며, RefreshToken의 ID 타입은 String입니다.
-    // 필요에 따라 커스텀 쿼리를 추가하여 리프레시 토큰의 조회 및 삭제 로직을 구현할 수 있습니다.
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+    // JpaRepository를 상속하면 기본 CRUD 메서드가 제공되며, RefreshToken의 ID 타입은 토큰 다이제스트(UUID, BINARY(16))입니다.
+    // 토큰 문자열로 조회할 때는 RefreshToken.digestOf(token)으로 변환한 값을 사용합니다.
+
+    /**
+     * 아직 사용되지 않았고 만료되지 않은, 같은 디바이스의 리프레시 토큰을 한 번의 조건부 UPDATE로 사용 처리합니다.
+     * 검증과 무효화가 하나의 문장에서 이루어지므로, 같은 토큰으로 동시에 갱신을 요청해도 한 요청만 1을 돌려받습니다.
+     * @param tokenDigest 리프레시 토큰 다이제스트
+     * @param deviceInfo 요청한 디바이스 정보
+     * @param now 현재 시각
+     * @return 사용 처리된 행 수 (성공 시 1, 이미 사용되었거나 유효하지 않으면 0)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.isExpired = true, r.rotatedAt = :now "
+            + "WHERE r.tokenDigest = :tokenDigest AND r.isExpired = false AND r.deviceInfo = :deviceInfo AND r.expiryDate > :now")
+    int markUsed(@Param("tokenDigest") UUID tokenDigest, @Param("deviceInfo") String deviceInfo, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자의 유효한 리프레시 토큰(세션)을 최근에 발급된 순서로 한 페이지씩 조회합니다.
+     * (username, expiry_date) 인덱스를 역순으로 읽으므로 정렬 없이 페이지 크기만큼만 읽으며, 엔티티 대신 필요한 컬럼만 가져옵니다.
+     * 전체 개수를 세는 쿼리는 실행하지 않고, 페이지 크기보다 한 행 더 읽어 다음 페이지 여부만 판단합니다.
+     */
+    @Query("SELECT new com.jwt.demo.dto.SessionDto(r.tokenDigest, r.deviceInfo, r.expiryDate) FROM RefreshToken r "
+            + "WHERE r.username = :username AND r.isExpired = false AND r.expiryDate > :now ORDER BY r.expiryDate DESC")
+    Slice<SessionDto> findActiveByUsername(@Param("username") String username, @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+
+    /**
+     * 사용자의 세션 하나(리프레시 토큰 한 행)를 만료 처리합니다. 기본키로 찾고, 다른 사용자의 세션은 만료 처리하지 않습니다.
+     * @return 만료 처리된 행 수 (없거나 이미 만료되었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.isExpired = true, r.rotatedAt = :now "
+            + "WHERE r.tokenDigest = :tokenDigest AND r.username = :username AND r.isExpired = false")
+    int expireByTokenDigestAndUsername(@Param("tokenDigest") UUID tokenDigest, @Param("username") String username,
+                                       @Param("now") LocalDateTime now);
+
+    /**
+     * 주어진 세션이 사용자의 유효한 세션(만료 처리되지 않았고 만료 시각이 지나지 않은 리프레시 토큰)인지 확인합니다.
+     * 기본키로 한 행만 읽습니다.
+     * @return 유효한 세션이면 true (없거나, 다른 사용자의 세션이거나, 만료되었으면 false)
+     */
+    @Query("SELECT COUNT(r) > 0 FROM RefreshToken r "
+            + "WHERE r.tokenDigest = :tokenDigest AND r.username = :username AND r.isExpired = false AND r.expiryDate > :now")
+    boolean existsActiveByTokenDigestAndUsername(@Param("tokenDigest") UUID tokenDigest, @Param("username") String username,
+                                                 @Param("now") LocalDateTime now);
+
+    /**
+     * 주어진 세션을 제외한 사용자의 리프레시 토큰을 모두 만료 처리합니다. (다른 기기 로그아웃)
+     * @return 만료 처리된 행 수
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.isExpired = true, r.rotatedAt = :now "
+            + "WHERE r.username = :username AND r.isExpired = false AND r.tokenDigest <> :keepTokenDigest")
+    int expireAllByUsernameExcept(@Param("username") String username, @Param("keepTokenDigest") UUID keepTokenDigest,
+                                  @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자의 리프레시 토큰을 모든 디바이스에서 만료 처리합니다. (모든 세션 로그아웃)
+     * @return 만료 처리된 행 수
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.isExpired = true, r.rotatedAt = :now "
+            + "WHERE r.username = :username AND r.isExpired = false")
+    int expireAllByUsername(@Param("username") String username, @Param("now") LocalDateTime now);
 }
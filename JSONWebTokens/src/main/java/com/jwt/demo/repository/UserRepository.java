@@ -2,6 +2,7 @@ package com.jwt.demo.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 //import org.springframework.data.repository.Repository;
 //import org.springframework.stereotype.Repository;
@@ -16,6 +17,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     User save(User user); // 사용자 저장
 
+    @EntityGraph(attributePaths = "authorities") // 권한을 지연 로딩으로 따로 조회하지 않고 한 번의 조인 쿼리로 함께 조회
     Optional<User> findOneWithAuthoritiesByUsername(String username); // 사용자명으로 사용자 및 권한 정보를 함께 조회
     
     void delete(User user); // 사용자 삭제
@@ -0,0 +1,107 @@
+package com.jwt.demo.security;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jwt.demo.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AuthRateLimiter는 로그인과 리프레시 토큰 교체 요청의 속도를 클라이언트 IP와 사용자 이름별로 제한합니다.
+ * 비밀번호 해시와 사용자 조회 전에 호출하여, 한 클라이언트가 반복 요청으로 CPU를 모두 차지하지 못하게 합니다.
+ * 제한을 넘으면 TooManyRequestsException을 던지며, GlobalExceptionHandler에서 429와 Retry-After 헤더로 변환됩니다.
+ *
+ * 클라이언트 IP는 HttpServletRequest.getRemoteAddr()를 사용하므로, 프록시 뒤에서 실행할 때는
+ * server.forward-headers-strategy를 설정하여 X-Forwarded-For의 값이 반영되도록 합니다.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final boolean enabled; // 속도 제한 사용 여부
+    private final RateLimitTable table; // 모든 규칙이 함께 사용하는 고정 크기 상태 테이블
+    private final Rule loginPerIp; // 클라이언트 IP별 로그인 제한
+    private final Rule loginPerUsername; // 사용자 이름별 로그인 제한 (여러 IP에서 한 계정을 대상으로 하는 시도)
+    private final Rule refreshPerIp; // 클라이언트 IP별 리프레시 토큰 교체 제한
+
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.rate-limit.enabled:true}") boolean enabled,
+            @Value("${jwt.rate-limit.table-size:65536}") int tableSize,
+            @Value("${jwt.rate-limit.login-per-ip.per-minute:30}") int loginPerIpPerMinute,
+            @Value("${jwt.rate-limit.login-per-ip.burst:10}") int loginPerIpBurst,
+            @Value("${jwt.rate-limit.login-per-username.per-minute:10}") int loginPerUsernamePerMinute,
+            @Value("${jwt.rate-limit.login-per-username.burst:5}") int loginPerUsernameBurst,
+            @Value("${jwt.rate-limit.refresh-per-ip.per-minute:60}") int refreshPerIpPerMinute,
+            @Value("${jwt.rate-limit.refresh-per-ip.burst:20}") int refreshPerIpBurst) {
+        this.enabled = enabled;
+        long origin = System.nanoTime();
+        Counter evictions = Counter.builder("jwt.rate_limit.evictions")
+                .description("테이블이 가득 차서 다른 키의 제한 상태를 덮어쓴 횟수")
+                .register(meterRegistry);
+        this.table = new RateLimitTable(tableSize,
+                () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - origin) + 1, evictions::increment);
+        this.loginPerIp = new Rule(meterRegistry, "login", "ip", loginPerIpPerMinute, loginPerIpBurst);
+        this.loginPerUsername = new Rule(meterRegistry, "login", "username", loginPerUsernamePerMinute, loginPerUsernameBurst);
+        this.refreshPerIp = new Rule(meterRegistry, "refresh", "ip", refreshPerIpPerMinute, refreshPerIpBurst);
+    }
+
+    /**
+     * 로그인 요청 한 건을 허용할지 확인합니다. IP 제한을 먼저 확인하므로, IP 제한에 걸린 요청은 사용자 이름의 한도를 사용하지 않습니다.
+     * @param clientIp 클라이언트 IP
+     * @param username 로그인하려는 사용자 이름
+     * @throws TooManyRequestsException 제한을 넘은 경우
+     */
+    public void checkLogin(String clientIp, String username) {
+        if (enabled) {
+            loginPerIp.check(table, clientIp);
+            loginPerUsername.check(table, username == null ? null : username.toLowerCase(Locale.ROOT)); // 대소문자만 다른 이름은 같은 계정으로 취급
+        }
+    }
+
+    /**
+     * 리프레시 토큰 교체 요청 한 건을 허용할지 확인합니다.
+     * @param clientIp 클라이언트 IP
+     * @throws TooManyRequestsException 제한을 넘은 경우
+     */
+    public void checkRefresh(String clientIp) {
+        if (enabled) {
+            refreshPerIp.check(table, clientIp);
+        }
+    }
+
+    /**
+     * 엔드포인트와 키 종류별 제한 규칙입니다. 분당 요청 수를 GCRA의 회복 간격으로 바꿔 보관합니다.
+     */
+    private static final class Rule {
+
+        private final String keyPrefix; // 규칙마다 테이블의 키가 겹치지 않도록 붙이는 접두사
+        private final long emissionIntervalMillis; // 한도 하나가 회복되는 데 걸리는 시간
+        private final int burst; // 연속으로 허용하는 최대 요청 수
+        private final Counter throttled; // 제한된 요청 수
+
+        Rule(MeterRegistry meterRegistry, String endpoint, String keyType, int perMinute, int burst) {
+            this.keyPrefix = endpoint + ":" + keyType + ":";
+            this.emissionIntervalMillis = Math.max(1, TimeUnit.MINUTES.toMillis(1) / Math.max(1, perMinute));
+            this.burst = Math.max(1, burst);
+            this.throttled = Counter.builder("jwt.rate_limit.throttled")
+                    .description("요청 속도 제한으로 429를 반환한 요청 수")
+                    .tag("endpoint", endpoint)
+                    .tag("key", keyType)
+                    .register(meterRegistry);
+        }
+
+        void check(RateLimitTable table, String key) {
+            long waitMillis = table.acquire(keyPrefix + (key == null ? "" : key), emissionIntervalMillis, burst);
+            if (waitMillis > 0) {
+                throttled.increment();
+                long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitMillis + 999)); // 올림
+                throw new TooManyRequestsException("Too many requests. Please retry later.", retryAfterSeconds);
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.jwt.demo.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.jwt.demo.entities.Authority;
+import com.jwt.demo.repository.AuthorityRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AuthorityRegistry는 권한 이름마다 하나의 GrantedAuthority 인스턴스만 두고 공유하는 레지스트리입니다. (flyweight)
+ * authority 테이블은 작고 거의 바뀌지 않으므로 시작 시 모두 읽어 두고,
+ * "ROLE_USER,ROLE_ADMIN" 같은 auth 클레임 문자열도 파싱한 결과(변경 불가 리스트)를 보관하여
+ * 요청마다 문자열 분리나 SimpleGrantedAuthority 생성이 일어나지 않도록 합니다.
+ * authority_bit가 지정된 권한으로는 비트마스크 <-> 권한 목록 변환표를 미리 만들어, 비트마스크 클레임을 배열 조회 한 번으로 해석합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorityRegistry {
+
+    // 서명된 토큰의 클레임만 파싱하므로 조합 수는 작지만, 비정상적인 입력에 대비해 보관 개수에 상한을 둡니다.
+    private static final int MAX_ENTRIES = 1024;
+    // 비트마스크 변환표를 미리 만들어 두는 최대 비트 수 (2^12 = 4096개 항목). 이보다 큰 비트는 조회 시 계산합니다.
+    private static final int MAX_TABLE_BITS = 12;
+
+    private final AuthorityRepository authorityRepository; // 시작 시 권한 목록 조회
+
+    private final Map<String, GrantedAuthority> authorities = new ConcurrentHashMap<>(); // 권한 이름 -> 공유 인스턴스
+    private final Map<String, List<GrantedAuthority>> parsedClaims = new ConcurrentHashMap<>(); // auth 클레임 -> 권한 목록
+    private volatile BitTable bitTable = BitTable.EMPTY; // 비트마스크 <-> 권한 변환표 (시작 시 authority 테이블로 구성)
+
+    /**
+     * 애플리케이션 시작이 끝나면 authority 테이블의 권한을 모두 등록합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            List<Authority> all = authorityRepository.findAll();
+            for (Authority authority : all) {
+                get(authority.getAuthorityName());
+            }
+            bitTable = BitTable.build(all, this);
+            log.info("권한 레지스트리를 초기화했습니다. authorities={}, bits={}", authorities.keySet(), bitTable.bitOf.keySet());
+        } catch (DataAccessException e) {
+            // 미리 읽지 못해도 처음 사용될 때 등록되므로 동작에는 문제가 없습니다.
+            log.warn("권한 목록을 미리 읽지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 권한 이름에 해당하는 공유 GrantedAuthority 인스턴스를 반환합니다.
+     * @param name 권한 이름 (예: ROLE_USER)
+     * @return GrantedAuthority 인스턴스
+     */
+    public GrantedAuthority get(String name) {
+        GrantedAuthority authority = authorities.get(name);
+        if (authority != null) {
+            return authority;
+        }
+        if (authorities.size() >= MAX_ENTRIES) {
+            return new SimpleGrantedAuthority(name); // 상한을 넘으면 보관하지 않고 새로 만듭니다.
+        }
+        return authorities.computeIfAbsent(name, SimpleGrantedAuthority::new);
+    }
+
+    /**
+     * 콤마로 구분된 auth 클레임 문자열을 공유 GrantedAuthority의 변경 불가 리스트로 변환합니다.
+     * 같은 문자열은 한 번만 파싱하며, 이후에는 보관된 리스트를 그대로 반환합니다.
+     * @param claim auth 클레임 값 (예: "ROLE_USER,ROLE_ADMIN")
+     * @return 권한 목록
+     */
+    public List<GrantedAuthority> parse(String claim) {
+        if (claim == null || claim.isEmpty()) {
+            return List.of();
+        }
+        List<GrantedAuthority> parsed = parsedClaims.get(claim);
+        if (parsed != null) {
+            return parsed;
+        }
+        parsed = split(claim);
+        if (parsedClaims.size() < MAX_ENTRIES) {
+            parsedClaims.putIfAbsent(claim, parsed);
+        }
+        return parsed;
+    }
+
+    private List<GrantedAuthority> split(String claim) {
+        List<GrantedAuthority> result = new ArrayList<>();
+        int start = 0;
+        while (start <= claim.length()) {
+            int end = claim.indexOf(',', start);
+            if (end < 0) {
+                end = claim.length();
+            }
+            String name = claim.substring(start, end).trim();
+            if (!name.isEmpty()) {
+                result.add(get(name));
+            }
+            start = end + 1;
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * 권한 목록을 비트마스크로 변환합니다.
+     * @param grantedAuthorities 권한 목록
+     * @return 비트마스크, 비트가 지정되지 않은 권한이 하나라도 있으면 -1 (문자열 형식을 사용해야 함)
+     */
+    public long encode(Iterable<? extends GrantedAuthority> grantedAuthorities) {
+        BitTable table = bitTable;
+        long mask = 0;
+        for (GrantedAuthority authority : grantedAuthorities) {
+            Integer bit = table.bitOf.get(authority.getAuthority());
+            if (bit == null) {
+                return -1;
+            }
+            mask |= 1L << bit;
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크를 공유 GrantedAuthority의 변경 불가 리스트로 변환합니다.
+     * 알 수 없는 비트는 무시하므로, 노드 간 권한 구성이 달라도 더 많은 권한이 부여되지는 않습니다.
+     * @param mask 비트마스크
+     * @return 권한 목록
+     */
+    public List<GrantedAuthority> decode(long mask) {
+        BitTable table = bitTable;
+        if (mask >= 0 && mask < table.byMask.size()) {
+            return table.byMask.get((int) mask); // 미리 계산된 변환표에서 바로 조회
+        }
+        return table.compute(mask);
+    }
+
+    /**
+     * 비트 위치와 권한의 대응 관계 및 미리 계산된 비트마스크 변환표입니다. 만들어진 뒤에는 변경되지 않습니다.
+     */
+    private static final class BitTable {
+
+        static final BitTable EMPTY = new BitTable(Map.of(), new GrantedAuthority[0], List.of(List.of()));
+
+        final Map<String, Integer> bitOf; // 권한 이름 -> 비트 위치
+        final GrantedAuthority[] byBit; // 비트 위치 -> 권한 (지정되지 않은 위치는 null)
+        final List<List<GrantedAuthority>> byMask; // 비트마스크 -> 권한 목록 (MAX_TABLE_BITS 이하만)
+
+        private BitTable(Map<String, Integer> bitOf, GrantedAuthority[] byBit, List<List<GrantedAuthority>> byMask) {
+            this.bitOf = bitOf;
+            this.byBit = byBit;
+            this.byMask = byMask;
+        }
+
+        static BitTable build(List<Authority> all, AuthorityRegistry registry) {
+            Map<String, Integer> bitOf = new HashMap<>();
+            int width = 0;
+            for (Authority authority : all) {
+                Integer bit = authority.getAuthorityBit();
+                if (bit != null && bit >= 0 && bit < Long.SIZE) {
+                    bitOf.put(authority.getAuthorityName(), bit);
+                    width = Math.max(width, bit + 1);
+                }
+            }
+            GrantedAuthority[] byBit = new GrantedAuthority[width];
+            bitOf.forEach((name, bit) -> byBit[bit] = registry.get(name));
+
+            BitTable partial = new BitTable(Map.copyOf(bitOf), byBit, List.of());
+            int tableBits = Math.min(width, MAX_TABLE_BITS);
+            List<List<GrantedAuthority>> byMask = new ArrayList<>(1 << tableBits);
+            for (int mask = 0; mask < (1 << tableBits); mask++) {
+                byMask.add(partial.compute(mask));
+            }
+            return new BitTable(partial.bitOf, byBit, List.copyOf(byMask));
+        }
+
+        List<GrantedAuthority> compute(long mask) {
+            List<GrantedAuthority> result = new ArrayList<>(Long.bitCount(mask));
+            for (int bit = 0; bit < byBit.length; bit++) {
+                if ((mask & (1L << bit)) != 0 && byBit[bit] != null) {
+                    result.add(byBit[bit]);
+                }
+            }
+            return List.copyOf(result);
+        }
+    }
+}
@@ -3,9 +3,6 @@ package com.jwt.demo.security;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Component;
 
-import com.jwt.demo.jwt.TokenProvider;
-import com.jwt.demo.service.TokenBlacklistService;
-
 /**
  * CustomTokenValidator는 토큰의 유효성을 검사하고,
  * 블랙리스트에 등록된 토큰인지 확인하는 역할을 합니다.
@@ -13,13 +10,11 @@ import com.jwt.demo.service.TokenBlacklistService;
 @Component
 public class CustomTokenValidator {
 
-    private final TokenProvider tokenProvider; // JWT 토큰 생성 및 유효성 검증을 담당하는 TokenProvider
-    private final TokenBlacklistService tokenBlacklistService; // 블랙리스트 관리 서비스를 통해 토큰이 블랙리스트에 있는지 확인
+    private final TokenValidationPipeline tokenValidationPipeline; // 형태, 서명, 만료 시간, 폐기 여부를 비용 순서로 확인하는 파이프라인
 
-    // 생성자 주입 방식으로 TokenProvider와 TokenBlacklistService를 주입받습니다.
-    public CustomTokenValidator(TokenProvider tokenProvider, TokenBlacklistService tokenBlacklistService) {
-        this.tokenProvider = tokenProvider;
-        this.tokenBlacklistService = tokenBlacklistService;
+    // 생성자 주입 방식으로 TokenValidationPipeline을 주입받습니다.
+    public CustomTokenValidator(TokenValidationPipeline tokenValidationPipeline) {
+        this.tokenValidationPipeline = tokenValidationPipeline;
     }
 
     /**
@@ -27,16 +22,9 @@ public class CustomTokenValidator {
      * @param token 검사할 토큰
      */
     public void validateToken(String token) {
-        // 블랙리스트에 있는지 확인
-        if (tokenBlacklistService.isBlacklisted(token)) {
-            // 블랙리스트에 있으면 예외를 던집니다.
-            throw new BadCredentialsException("This token is blacklisted.");
-        }
-
-        // 토큰 유효성 검증
-        if (!tokenProvider.validateToken(token)) {
-            // 유효하지 않거나 만료된 토큰일 경우 예외를 던집니다.
-            throw new BadCredentialsException("Invalid or expired token.");
+        // 유효하지 않거나, 만료되었거나, 블랙리스트에 있는 토큰일 경우 예외를 던집니다. (거부 사유는 메트릭으로 집계)
+        if (tokenValidationPipeline.validate(token).isEmpty()) {
+            throw new BadCredentialsException("Invalid, expired or blacklisted token.");
         }
     }
 }
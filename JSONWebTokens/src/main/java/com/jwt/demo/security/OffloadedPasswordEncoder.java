@@ -0,0 +1,44 @@
+package com.jwt.demo.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.jwt.demo.jwt.AuthMetrics;
+
+/**
+ * OffloadedPasswordEncoder는 실제 PasswordEncoder의 encode/matches를 PasswordHashingExecutor의 전용 풀에서 실행하는 래퍼입니다.
+ * DaoAuthenticationProvider가 로그인 시 호출하는 BCrypt 검증이 요청 스레드에서 직접 CPU를 쓰지 않도록 합니다.
+ * 로그인 시의 비밀번호 비교 시간(작업 풀 대기 시간 포함)은 jwt.login.phase{phase=password_hash}로 기록합니다.
+ */
+public class OffloadedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate; // 실제 해시를 계산하는 PasswordEncoder
+    private final PasswordHashingExecutor passwordHashingExecutor; // 해시 작업 전용 풀
+    private final AuthMetrics authMetrics; // 로그인 단계별 처리 시간
+
+    public OffloadedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor passwordHashingExecutor,
+                                    AuthMetrics authMetrics) {
+        this.delegate = delegate;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingExecutor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long started = System.nanoTime();
+        try {
+            return passwordHashingExecutor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+        } finally {
+            authMetrics.recordLoginPhase(AuthMetrics.LoginPhase.PASSWORD_HASH, System.nanoTime() - started);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword); // 해시 계산이 없으므로 바로 위임
+    }
+}
@@ -0,0 +1,190 @@
+package com.jwt.demo.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jwt.demo.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PasswordHashingExecutor는 BCrypt 같은 CPU 집약적인 비밀번호 해시 작업을 코어 수에 맞춘 전용 작업 풀에서 실행합니다.
+ * 대기 큐가 가득 차거나 정해진 시간 안에 처리되지 않으면 ServiceOverloadedException을 던져 503으로 바로 응답하게 하므로,
+ * 로그인 요청이 몰려도 해시 작업이 Tomcat 요청 스레드와 CPU를 모두 차지하지 않습니다.
+ *
+ * 시작된 BCrypt 계산은 중단할 수 없으므로, 제한 시간 안에 끝낼 수 없는 작업은 CPU를 쓰기 전에 거절합니다.
+ * - 받아들이는 대기 작업 수를 timeout-ms / 평균 해시 시간 x 스레드 수에서 실행 중인 작업 수를 뺀 값으로 제한하여,
+ *   처리할 수 없는 요청은 제출 시점에 바로 503으로 응답합니다. (queue-capacity는 이 값의 상한)
+ * - 작업마다 마감 시각을 두고, 큐에서 꺼냈을 때 남은 시간이 평균 해시 시간보다 짧으면 계산하지 않고 거절합니다.
+ *   (호출자가 곧 포기할 작업에 CPU를 쓰지 않음)
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor; // 해시 작업 전용 스레드 풀
+    private final int poolSize; // 해시 스레드 수
+    private final int queueCapacity; // 대기 작업 수의 상한
+    private final long timeoutMillis; // 대기를 포함해 작업 하나에 허용하는 최대 시간
+    private final long retryAfterSeconds; // 포화 시 Retry-After 헤더 값
+    private final AtomicLong averageHashNanos; // 해시 계산 시간의 지수 이동 평균 (대기 작업 수 제한과 마감 확인에 사용)
+
+    private final Timer queueWaitTimer; // 작업이 큐에서 기다린 시간
+    private final Timer hashTimer; // 해시 계산에 걸린 시간
+    private final Counter rejectedCounter; // 포화로 거절된 작업 수
+    private final Counter expiredCounter; // 마감 전에 끝낼 수 없어 계산하지 않고 거절한 작업 수
+
+    public PasswordHashingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.password-hashing.threads:0}") int threads,
+            @Value("${jwt.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${jwt.password-hashing.timeout-ms:2000}") long timeoutMillis,
+            @Value("${jwt.password-hashing.retry-after-seconds:1}") long retryAfterSeconds,
+            @Value("${jwt.password-hashing.expected-hash-ms:100}") long expectedHashMillis) {
+        this.poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors(); // 0이면 코어 수만큼
+        this.queueCapacity = queueCapacity;
+        this.averageHashNanos = new AtomicLong(TimeUnit.MILLISECONDS.toNanos(Math.max(1, expectedHashMillis))); // 측정 전 초기값
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.queueWaitTimer = Timer.builder("jwt.password_hashing.queue.wait")
+                .description("비밀번호 해시 작업이 큐에서 기다린 시간")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("jwt.password_hashing.hash")
+                .description("비밀번호 해시 계산 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("jwt.password_hashing.rejected")
+                .description("작업 풀 포화로 거절된 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("jwt.password_hashing.expired")
+                .description("마감 전에 끝낼 수 없어 계산하지 않고 거절한 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.password_hashing.queue.limit", this, PasswordHashingExecutor::admissionLimit)
+                .description("현재 평균 해시 시간 기준으로 받아들이는 대기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.password_hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("대기 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.password_hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업을 해시 전용 풀에서 실행하고 결과를 기다립니다.
+     * @param task 실행할 해시 작업
+     * @return 작업 결과
+     * @throws ServiceOverloadedException 제한 시간 안에 처리할 수 없는 대기 작업이 이미 있거나, 제한 시간 안에 끝나지 않은 경우
+     */
+    public <T> T execute(Supplier<T> task) {
+        long submitted = System.nanoTime();
+        long deadline = submitted + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        if (executor.getQueue().size() >= admissionLimit()) {
+            rejectedCounter.increment();
+            throw overloaded(); // 앞의 작업만으로 제한 시간이 다 차므로 기다리지 않고 거절
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                queueWaitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+                if (deadline - started < averageHashNanos.get()) {
+                    throw DeadlineExceeded.INSTANCE; // 계산을 시작해도 호출자가 기다리는 시간 안에 끝나지 않음
+                }
+                try {
+                    return task.get();
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    hashTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    averageHashNanos.accumulateAndGet(elapsed, (average, sample) -> average + (sample - average) / 8);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw overloaded();
+        }
+
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true); // 아직 큐에 있다면 실행되지 않도록 취소
+            executor.remove((Runnable) future); // 취소된 작업이 대기 작업 수를 차지하지 않도록 큐에서 제거
+            rejectedCounter.increment();
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DeadlineExceeded) {
+                expiredCounter.increment();
+                throw overloaded();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 제한 시간 안에 처리할 수 있는 만큼만 대기 작업을 받아들이는 수입니다.
+     * 제한 시간 동안 처리할 수 있는 작업 수(timeout-ms / 평균 해시 시간 x 스레드 수)에서 실행 중인 작업 수를 뺀 값이며,
+     * queue-capacity를 넘지 않고 최소 1입니다.
+     */
+    int admissionLimit() {
+        long completable = TimeUnit.MILLISECONDS.toNanos(timeoutMillis) / Math.max(1, averageHashNanos.get()) * poolSize;
+        return (int) Math.max(1, Math.min(queueCapacity, completable - poolSize));
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Too many login attempts in progress. Please retry shortly.", retryAfterSeconds);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 마감 전에 끝낼 수 없어 계산하지 않은 작업을 알리는 예외입니다. (스택 트레이스 없이 공유)
+     */
+    private static final class DeadlineExceeded extends RuntimeException {
+
+        static final DeadlineExceeded INSTANCE = new DeadlineExceeded();
+
+        private DeadlineExceeded() {
+            super("Password hashing deadline exceeded", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.jwt.demo.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * RateLimitTable은 GCRA(Generic Cell Rate Algorithm) 방식의 요청 속도 제한 상태를 고정 크기 배열에 보관합니다.
+ * 키마다 "다음 요청이 도착할 이론적 시각"(TAT) 하나만 있으면 되므로, 슬롯 하나(long)에 키 지문 24비트와 TAT 40비트를 함께 담고
+ * compareAndSet으로 갱신합니다. 잠금이 없고, 키가 아무리 많아도 메모리 사용량은 슬롯 수 × 8바이트로 고정됩니다.
+ *
+ * 슬롯 위치와 지문은 테이블마다 무작위로 만든 비밀 키의 HMAC-SHA256으로 정하므로, 비밀 키를 모르는 클라이언트는
+ * 특정 사용자의 키와 같은 슬롯 범위나 같은 지문을 갖는 키를 골라 만들 수 없습니다. (비밀 키는 프로세스 밖으로 나가지 않음)
+ * 키의 위치부터 PROBES개 슬롯 안에서 같은 지문을 찾고, 없으면 비어 있거나 한도가 모두 회복된 슬롯을 사용합니다.
+ * 모든 슬롯이 사용 중이면 TAT가 가장 이른(한도가 가장 많이 회복된) 슬롯을 덮어씁니다.
+ * 따라서 서로 다른 키를 대량으로 보내 테이블을 채우면 다른 키의 상태를 밀어낼 수 있습니다. (jwt.rate_limit.evictions로 감시)
+ */
+final class RateLimitTable {
+
+    private static final int PROBES = 8; // 키 하나가 사용할 수 있는 슬롯 범위
+    private static final int TAT_BITS = 40; // TAT(밀리초) 비트 수, 약 34년
+    private static final long TAT_MASK = (1L << TAT_BITS) - 1;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final AtomicLongArray slots; // 지문(상위 24비트) | TAT(하위 40비트), 0은 빈 슬롯
+    private final int mask; // 슬롯 수 - 1 (슬롯 수는 2의 거듭제곱)
+    private final LongSupplier clockMillis; // 단조 증가하는 현재 시각 (밀리초, 1 이상)
+    private final Runnable onEviction; // 사용 중인 슬롯을 덮어쓸 때 호출 (메트릭 기록용)
+    private final ThreadLocal<Mac> hmac; // 키 해시용 HMAC (Mac은 스레드 안전하지 않으므로 스레드마다 하나씩)
+
+    RateLimitTable(int size, LongSupplier clockMillis, Runnable onEviction) {
+        int capacity = Integer.highestOneBit(Math.max(PROBES, size - 1) << 1); // size 이상인 가장 작은 2의 거듭제곱
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.clockMillis = clockMillis;
+        this.onEviction = onEviction;
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret); // 프로세스마다 새로 만드는 비밀 키 (재시작하면 제한 상태와 함께 초기화)
+        SecretKeySpec secretKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.hmac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(secretKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 알고리즘을 사용할 수 없습니다.", e);
+            }
+        });
+    }
+
+    /**
+     * 키의 요청 한 건을 허용할지 판단하고, 허용하면 한도를 하나 사용합니다.
+     * @param key 제한 대상 키 (예: "login:ip:127.0.0.1")
+     * @param emissionIntervalMillis 한도 하나가 회복되는 데 걸리는 시간
+     * @param burst 연속으로 허용하는 최대 요청 수
+     * @return 허용하면 0, 거부하면 다시 시도할 수 있을 때까지 남은 시간 (밀리초)
+     */
+    long acquire(String key, long emissionIntervalMillis, int burst) {
+        long hash = hash(key);
+        long fingerprint = Math.max(1, hash >>> TAT_BITS); // 0은 빈 슬롯 표시이므로 사용하지 않음
+        int home = (int) hash & mask;
+        long tolerance = emissionIntervalMillis * (burst - 1); // 이만큼 앞선 TAT까지 허용
+
+        while (true) {
+            long now = clockMillis.getAsLong();
+            int slot = -1;
+            long current = 0;
+            int free = -1; // 비어 있거나 한도가 모두 회복된 첫 슬롯
+            long freeValue = 0;
+            int oldest = -1; // TAT가 가장 이른 슬롯
+            long oldestValue = 0;
+            for (int probe = 0; probe < PROBES; probe++) {
+                int index = (home + probe) & mask;
+                long value = slots.get(index);
+                if (value != 0 && value >>> TAT_BITS == fingerprint) {
+                    slot = index;
+                    current = value;
+                    break;
+                }
+                long slotTat = value & TAT_MASK; // 빈 슬롯은 0
+                if (free < 0 && slotTat <= now) {
+                    free = index;
+                    freeValue = value;
+                }
+                if (oldest < 0 || slotTat < (oldestValue & TAT_MASK)) {
+                    oldest = index;
+                    oldestValue = value;
+                }
+            }
+
+            long tat = now;
+            boolean evicting = false;
+            if (slot >= 0) {
+                tat = Math.max(now, current & TAT_MASK);
+                long waitMillis = tat - now - tolerance;
+                if (waitMillis > 0) {
+                    return waitMillis; // 한도를 모두 사용함, 상태는 바꾸지 않음
+                }
+            } else if (free >= 0) {
+                slot = free;
+                current = freeValue;
+            } else {
+                slot = oldest;
+                current = oldestValue;
+                evicting = true; // 아직 회복 중인 다른 키의 상태를 덮어씀
+            }
+            if (slots.compareAndSet(slot, current, fingerprint << TAT_BITS | ((tat + emissionIntervalMillis) & TAT_MASK))) {
+                if (evicting) {
+                    onEviction.run();
+                }
+                return 0;
+            }
+            // 다른 스레드가 먼저 갱신했으면 다시 읽어서 판단
+        }
+    }
+
+    /**
+     * 키의 HMAC-SHA256 상위 64비트를 반환합니다. (하위 비트는 슬롯 위치, 상위 24비트는 지문)
+     */
+    long hash(String key) {
+        byte[] digest = hmac.get().doFinal(key.getBytes(StandardCharsets.UTF_8));
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (digest[i] & 0xFFL);
+        }
+        return value;
+    }
+}
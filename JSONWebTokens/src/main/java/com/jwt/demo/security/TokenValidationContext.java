@@ -0,0 +1,89 @@
+package com.jwt.demo.security;
+
+import com.jwt.demo.jwt.AuthMetrics;
+import com.jwt.demo.jwt.VerifiedClaims;
+import com.jwt.demo.util.TokenDigest;
+
+/**
+ * TokenValidationContext는 토큰 하나가 파이프라인을 통과하는 동안의 검증 상태입니다.
+ * 다이제스트처럼 여러 단계가 사용하는 값은 처음 필요할 때 한 번만 계산합니다. 요청 스레드 하나에서만 사용합니다.
+ */
+public final class TokenValidationContext {
+
+    private final String token; // 검증할 토큰
+    private TokenDigest digest; // 토큰 다이제스트 (캐시 키)
+    private TokenDigest tokenIdDigest; // 토큰 식별자(jti) 다이제스트 (블랙리스트 키)
+    private VerifiedClaims claims; // 서명이 확인된 클레임 (캐시 적중 포함)
+    private boolean revocationResolved; // 폐기 여부 확인이 끝났는지 여부
+    private AuthMetrics.Failure failure; // 거부 사유
+
+    TokenValidationContext(String token) {
+        this.token = token;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public TokenDigest getDigest() {
+        if (digest == null) {
+            digest = TokenDigest.of(token);
+        }
+        return digest;
+    }
+
+    /**
+     * 토큰 식별자(jti)의 다이제스트입니다. 서명이 확인된 뒤에만 사용할 수 있습니다.
+     */
+    public TokenDigest getTokenIdDigest() {
+        if (tokenIdDigest == null) {
+            tokenIdDigest = TokenDigest.of(claims.getTokenId());
+        }
+        return tokenIdDigest;
+    }
+
+    public VerifiedClaims getClaims() {
+        return claims;
+    }
+
+    /**
+     * 서명이 확인되었는지(검증 결과 캐시 적중 포함) 여부입니다.
+     */
+    public boolean isVerified() {
+        return claims != null;
+    }
+
+    /**
+     * 서명이 확인된 클레임을 설정합니다. 이후의 서명 관련 단계는 건너뜁니다.
+     */
+    public void verified(VerifiedClaims claims) {
+        this.claims = claims;
+    }
+
+    public boolean isRevocationResolved() {
+        return revocationResolved;
+    }
+
+    /**
+     * 폐기되지 않은 토큰임이 확인되었음을 표시합니다. 이후의 폐기 확인 단계는 건너뜁니다.
+     */
+    public void notRevoked() {
+        this.revocationResolved = true;
+    }
+
+    /**
+     * 토큰을 거부합니다. 이후 단계는 실행되지 않습니다.
+     * @param failure 거부 사유
+     */
+    public void reject(AuthMetrics.Failure failure) {
+        this.failure = failure;
+    }
+
+    public boolean isRejected() {
+        return failure != null;
+    }
+
+    public AuthMetrics.Failure getFailure() {
+        return failure;
+    }
+}
@@ -0,0 +1,81 @@
+package com.jwt.demo.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.stereotype.Component;
+
+import com.jwt.demo.jwt.AuthMetrics;
+import com.jwt.demo.jwt.VerifiedClaims;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TokenValidationPipeline은 요청 인증에 사용하는 토큰 검증을 비용이 낮은 단계부터 차례로 실행합니다.
+ * (형태 확인, 검증 결과 캐시, 서명 없이 읽은 exp, 서명 검증, 사용자별 토큰 세대, 프로세스 내 폐기 정보, 데이터베이스 조회)
+ * 한 단계가 거부하면 이후 단계는 실행하지 않으며, 단계별 처리 시간과 거부 사유를 메트릭으로 기록합니다.
+ * JwtFilter와 CustomTokenValidator가 이 파이프라인에 검증을 맡깁니다.
+ */
+@Slf4j
+@Component
+public class TokenValidationPipeline {
+
+    private final TokenValidationStage[] stages; // 실행 순서대로 정렬된 단계
+    private final Timer[] stageTimers; // 단계별 처리 시간 (stages와 같은 순서)
+    private final AuthMetrics authMetrics; // 거부 사유별 카운터
+
+    public TokenValidationPipeline(List<TokenValidationStage> stages, AuthMetrics authMetrics) {
+        List<TokenValidationStage> ordered = new ArrayList<>(stages);
+        AnnotationAwareOrderComparator.sort(ordered);
+        this.stages = ordered.toArray(TokenValidationStage[]::new);
+        this.stageTimers = new Timer[this.stages.length];
+        for (int i = 0; i < this.stages.length; i++) {
+            stageTimers[i] = authMetrics.validationStageTimer(this.stages[i].getName());
+        }
+        this.authMetrics = authMetrics;
+        log.info("토큰 검증 단계: {}", ordered.stream().map(TokenValidationStage::getName).toList());
+    }
+
+    /**
+     * 토큰의 형태, 서명, 만료 시간, 폐기 여부를 확인합니다.
+     * @param token JWT 토큰
+     * @return 유효한 토큰이면 검증된 클레임, 그렇지 않으면 빈 Optional
+     */
+    public Optional<VerifiedClaims> validate(String token) {
+        TokenValidationContext context = run(token, Integer.MAX_VALUE);
+        // 서명 단계가 빠진 구성에서는 어떤 토큰도 허용하지 않음
+        return context.isRejected() ? Optional.empty() : Optional.ofNullable(context.getClaims());
+    }
+
+    /**
+     * getOrder()가 before보다 작은 단계만 실행합니다.
+     * 나머지 단계(예: 폐기 확인)를 여러 토큰에 대해 한 번에 처리하는 일괄 검증에서 사용합니다.
+     * @param token JWT 토큰
+     * @param before 실행하지 않을 첫 단계의 순서 (예: TokenValidationStage.LOCAL_REVOCATION)
+     * @return 검증 상태 (거부되었으면 isRejected가 true, 통과했으면 getClaims가 검증된 클레임)
+     */
+    public TokenValidationContext validateBefore(String token, int before) {
+        return run(token, before);
+    }
+
+    private TokenValidationContext run(String token, int before) {
+        TokenValidationContext context = new TokenValidationContext(token);
+        long started = System.nanoTime();
+        for (int i = 0; i < stages.length && stages[i].getOrder() < before; i++) {
+            stages[i].apply(context);
+            long finished = System.nanoTime();
+            stageTimers[i].record(finished - started, TimeUnit.NANOSECONDS);
+            started = finished;
+            if (context.isRejected()) {
+                authMetrics.recordFailure(context.getFailure());
+                log.debug("JWT 토큰이 {} 단계에서 거부되었습니다: {}", stages[i].getName(), context.getFailure());
+                break;
+            }
+        }
+        return context;
+    }
+}
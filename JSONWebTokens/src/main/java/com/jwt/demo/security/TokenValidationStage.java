@@ -0,0 +1,59 @@
+package com.jwt.demo.security;
+
+import java.util.function.Consumer;
+
+import org.springframework.core.Ordered;
+
+/**
+ * TokenValidationStage는 TokenValidationPipeline을 구성하는 검증 단계 하나입니다.
+ * 이 인터페이스를 구현한 빈은 모두 파이프라인에 포함되며, getOrder() 값이 작은(비용이 낮은) 단계부터 실행됩니다.
+ * 단계는 토큰을 거부할 때 TokenValidationContext.reject를 호출하고, 그러면 이후 단계는 실행되지 않습니다.
+ */
+public interface TokenValidationStage extends Ordered {
+
+    int FORMAT = 100; // 길이, 점의 개수, 문자 구성 확인 (할당 없음)
+    int CACHE = 200; // 검증 결과 캐시와 거부 캐시 조회 (다이제스트 계산)
+    int EXPIRY = 300; // 서명 없이 읽은 exp로 만료 확인 (Base64 디코딩, JSON 읽기)
+    int SIGNATURE = 400; // 서명 검증과 클레임 파싱 (HMAC)
+    int EPOCH = 450; // 사용자별 토큰 세대 확인 (맵 조회)
+    int LOCAL_REVOCATION = 500; // 프로세스 내 폐기 정보 확인 (블룸 필터, 폐기 캐시)
+    int REMOTE_REVOCATION = 600; // 데이터베이스 등 외부 저장소 조회
+
+    /**
+     * 메트릭 태그로 사용할 단계 이름입니다.
+     */
+    String getName();
+
+    /**
+     * 검증을 수행합니다. 통과하면 아무것도 하지 않고, 거부하면 context.reject를 호출합니다.
+     * @param context 현재 토큰의 검증 상태
+     */
+    void apply(TokenValidationContext context);
+
+    /**
+     * 이름, 순서, 검증 로직으로 단계를 만듭니다.
+     */
+    static TokenValidationStage of(String name, int order, Consumer<TokenValidationContext> action) {
+        return new TokenValidationStage() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public int getOrder() {
+                return order;
+            }
+
+            @Override
+            public void apply(TokenValidationContext context) {
+                action.accept(context);
+            }
+
+            @Override
+            public String toString() {
+                return "TokenValidationStage(" + name + ", " + order + ")";
+            }
+        };
+    }
+}
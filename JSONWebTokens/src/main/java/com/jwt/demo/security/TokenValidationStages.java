@@ -0,0 +1,120 @@
+package com.jwt.demo.security;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jwt.demo.jwt.AuthMetrics;
+import com.jwt.demo.jwt.TokenProvider;
+import com.jwt.demo.jwt.VerifiedClaims;
+import com.jwt.demo.service.TokenBlacklistService;
+import com.jwt.demo.service.TokenEpochService;
+
+/**
+ * TokenValidationStages는 TokenValidationPipeline의 기본 검증 단계를 등록합니다.
+ * 비용이 낮은 단계부터 실행되므로, 위조되거나 만료된 토큰은 서명 검증이나 데이터베이스 조회 전에 거부됩니다.
+ * 다른 검증(예: 추가 클레임 확인)은 TokenValidationStage 빈을 하나 더 등록하여 원하는 순서에 끼워 넣습니다.
+ */
+@Configuration
+public class TokenValidationStages {
+
+    /**
+     * 길이, 점의 개수, Base64 URL 문자 구성이 발급한 토큰과 다르면 거부합니다.
+     */
+    @Bean
+    public TokenValidationStage formatStage(TokenProvider tokenProvider) {
+        return TokenValidationStage.of("format", TokenValidationStage.FORMAT, context -> {
+            if (!tokenProvider.hasCompactShape(context.getToken())) {
+                context.reject(AuthMetrics.Failure.MALFORMED);
+            }
+        });
+    }
+
+    /**
+     * 이미 검증된 토큰이면 클레임을 가져오고, 최근 거부한 토큰이면 같은 사유로 거부합니다.
+     */
+    @Bean
+    public TokenValidationStage cacheStage(TokenProvider tokenProvider) {
+        return TokenValidationStage.of("cache", TokenValidationStage.CACHE, context -> {
+            VerifiedClaims cached = tokenProvider.cachedClaims(context.getDigest());
+            if (cached != null) {
+                context.verified(cached);
+                return;
+            }
+            AuthMetrics.Failure rejected = tokenProvider.cachedRejection(context.getDigest());
+            if (rejected != null) {
+                context.reject(rejected);
+            }
+        });
+    }
+
+    /**
+     * 서명을 검증하지 않고 읽은 exp가 이미 지났으면 거부합니다. (거부에만 사용하며, 허용 여부는 서명 검증에서 판단)
+     */
+    @Bean
+    public TokenValidationStage expiryStage(TokenProvider tokenProvider) {
+        return TokenValidationStage.of("expiry", TokenValidationStage.EXPIRY, context -> {
+            if (!context.isVerified() && tokenProvider.isPastExpiration(context.getToken(), context.getDigest())) {
+                context.reject(AuthMetrics.Failure.EXPIRED);
+            }
+        });
+    }
+
+    /**
+     * 서명과 클레임을 검증합니다.
+     */
+    @Bean
+    public TokenValidationStage signatureStage(TokenProvider tokenProvider) {
+        return TokenValidationStage.of("signature", TokenValidationStage.SIGNATURE, context -> {
+            if (context.isVerified()) {
+                return;
+            }
+            TokenProvider.Verification verification = tokenProvider.verifySignature(context.getToken(), context.getDigest());
+            if (verification.claims() != null) {
+                context.verified(verification.claims());
+            } else {
+                context.reject(verification.failure());
+            }
+        });
+    }
+
+    /**
+     * 사용자의 모든 토큰 폐기(세대 증가) 이전에 발급된 토큰을 거부합니다.
+     */
+    @Bean
+    public TokenValidationStage epochStage(TokenEpochService tokenEpochService) {
+        return TokenValidationStage.of("epoch", TokenValidationStage.EPOCH, context -> {
+            VerifiedClaims claims = context.getClaims();
+            if (!tokenEpochService.isCurrent(claims.getSubject(), claims.getEpoch())) {
+                context.reject(AuthMetrics.Failure.REVOKED);
+            }
+        });
+    }
+
+    /**
+     * 블룸 필터와 폐기 캐시로 폐기 여부를 확인합니다. 판단할 수 없으면 다음 단계(데이터베이스 조회)로 넘깁니다.
+     */
+    @Bean
+    public TokenValidationStage localRevocationStage(TokenBlacklistService tokenBlacklistService) {
+        return TokenValidationStage.of("local_revocation", TokenValidationStage.LOCAL_REVOCATION, context -> {
+            switch (tokenBlacklistService.checkInMemory(context.getTokenIdDigest())) {
+                case REVOKED -> context.reject(AuthMetrics.Failure.BLACKLISTED);
+                case NOT_REVOKED -> context.notRevoked();
+                case UNKNOWN -> {
+                    // 데이터베이스 조회 단계에서 확인
+                }
+            }
+        });
+    }
+
+    /**
+     * 프로세스 내 정보로 판단할 수 없는 토큰만 데이터베이스에서 폐기 여부를 확인합니다.
+     */
+    @Bean
+    public TokenValidationStage remoteRevocationStage(TokenBlacklistService tokenBlacklistService) {
+        return TokenValidationStage.of("remote_revocation", TokenValidationStage.REMOTE_REVOCATION, context -> {
+            if (!context.isRevocationResolved() && tokenBlacklistService.isBlacklistedInDatabase(context.getTokenIdDigest())) {
+                context.reject(AuthMetrics.Failure.BLACKLISTED);
+            }
+        });
+    }
+}
@@ -16,6 +16,7 @@ import com.jwt.demo.controller.TokenResponse;
 import com.jwt.demo.dto.LoginDto;
 import com.jwt.demo.dto.TokenDto;
 import com.jwt.demo.entities.RefreshToken;
+import com.jwt.demo.jwt.AuthMetrics;
 import com.jwt.demo.jwt.TokenProvider;
 import com.jwt.demo.repository.RefreshTokenRepository;
 
@@ -29,6 +30,7 @@ public class AuthenticationService {
 
     private final TokenProvider tokenProvider; // JWT 토큰 생성 및 검증을 담당하는 TokenProvider
     private final AuthenticationManagerBuilder authenticationManagerBuilder; // Spring Security의 AuthenticationManager
+    private final AuthMetrics authMetrics; // 로그인과 리프레시 토큰 교체 처리 시간
 
     @Autowired
     private RefreshTokenRepository refreshTokenRepository; // 리프레시 토큰을 관리하는 리포지토리
@@ -40,27 +42,35 @@ public class AuthenticationService {
      */                        // 로그인 시 토큰 생성 !
     public Optional<TokenResponse> makeTokens(LoginDto loginDto, String deviceInfo) {
         log.info("makeTokens");
-
-        // 사용자의 인증 정보를 생성하여 Spring Security에서 처리
-        UsernamePasswordAuthenticationToken authenticationToken =
-                new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword());
-
-        // 인증을 수행하고 인증 객체를 생성
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
-        log.info("username=" + authentication.getName());
-
-        // 인증 정보를 SecurityContext에 설정
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        // 액세스 토큰 생성
-        String accessToken = tokenProvider.createToken(authentication, true);
-
-        // 리프레시 토큰 생성 및 저장 (deviceInfo 전달)
-        String refreshToken = tokenProvider.createAndPersistRefreshTokenForUser(authentication, deviceInfo);
-
-        // 토큰들을 포함한 TokenResponse 객체를 반환
-        TokenResponse tokenResponse = new TokenResponse(accessToken, refreshToken);
-        return Optional.ofNullable(tokenResponse);
+        long started = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            // 사용자의 인증 정보를 생성하여 Spring Security에서 처리
+            UsernamePasswordAuthenticationToken authenticationToken =
+                    new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword());
+
+            // 인증을 수행하고 인증 객체를 생성 (사용자 조회와 비밀번호 비교 시간은 각 단계에서 기록)
+            Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+            log.info("username=" + authentication.getName());
+
+            // 인증 정보를 SecurityContext에 설정
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            long issueStarted = System.nanoTime();
+            // 액세스 토큰 생성
+            String accessToken = tokenProvider.createToken(authentication, true);
+
+            // 리프레시 토큰 생성 및 저장 (deviceInfo 전달)
+            String refreshToken = tokenProvider.createAndPersistRefreshTokenForUser(authentication, deviceInfo);
+            authMetrics.recordLoginPhase(AuthMetrics.LoginPhase.TOKEN_ISSUE, System.nanoTime() - issueStarted);
+
+            // 토큰들을 포함한 TokenResponse 객체를 반환
+            TokenResponse tokenResponse = new TokenResponse(accessToken, refreshToken);
+            succeeded = true;
+            return Optional.ofNullable(tokenResponse);
+        } finally {
+            authMetrics.recordLogin(succeeded, System.nanoTime() - started);
+        }
     }
 
     /**
@@ -72,27 +82,32 @@ public class AuthenticationService {
     @Transactional         // 리프레시 토큰을 통한 새로운 액세스 토큰 발급 !
     public Optional<TokenDto> makeNewAccessToken(RefreshTokenRequest refreshTokenRequest, Authentication authentication) {
         String refreshTokenValue = refreshTokenRequest.getRefreshToken();
-        
-        // 리프레시 토큰을 조회하고 만료 상태와 디바이스 정보 일치 여부를 확인
-        RefreshToken validRefreshToken = refreshTokenRepository.findById(refreshTokenValue)
-                .filter(token -> !token.isTokenExpired()) // 만료되지 않은 토큰만 유효함
-                .filter(token -> token.getDeviceInfo().equals(refreshTokenRequest.getDeviceInfo())) // 디바이스 정보 일치 여부 확인
-                .orElseThrow(() -> new IllegalStateException("Invalid or expired refresh token"));
-
-        // 기존 리프레시 토큰을 만료 처리
-        validRefreshToken.expire();
-        refreshTokenRepository.save(validRefreshToken);
-
-        // 새로운 리프레시 토큰을 생성하고 저장
-        String newRefreshToken = tokenProvider.createAndPersistRefreshTokenForUser(
-                authentication, 
-                refreshTokenRequest.getDeviceInfo()
-        );
-
-        // 새로운 액세스 토큰 생성
-        String accessToken = tokenProvider.createToken(authentication, true);
-
-        return Optional.of(new TokenDto(accessToken, newRefreshToken));
+        long started = System.nanoTime();
+        boolean rotated = false;
+        try {
+            // 만료 상태와 디바이스 정보 일치 여부 확인, 기존 리프레시 토큰의 만료 처리를 하나의 조건부 UPDATE로 수행
+            // (조회 후 저장하는 방식은 같은 토큰으로 동시에 요청하면 둘 다 성공할 수 있음)
+            int updated = refreshTokenRepository.markUsed(
+                    RefreshToken.digestOf(refreshTokenValue), refreshTokenRequest.getDeviceInfo(), LocalDateTime.now());
+            if (updated != 1) {
+                throw new IllegalStateException("Invalid or expired refresh token");
+            }
+
+            // 새로운 리프레시 토큰을 생성하고 같은 트랜잭션에서 저장 (실패 시 위의 만료 처리도 함께 롤백)
+            String newRefreshToken = tokenProvider.createAndPersistRefreshTokenForUser(
+                    authentication, 
+                    refreshTokenRequest.getDeviceInfo()
+            );
+
+            // 새로운 액세스 토큰 생성
+            String accessToken = tokenProvider.createToken(authentication, true);
+
+            rotated = true;
+            return Optional.of(new TokenDto(accessToken, newRefreshToken));
+        } finally {
+            // 커밋 전 시간이므로 트랜잭션 커밋 시간은 포함하지 않음
+            authMetrics.recordRotation(rotated, System.nanoTime() - started);
+        }
     }
 
     /**
@@ -0,0 +1,237 @@
+package com.jwt.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.jwt.demo.util.TokenDigest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BlacklistWriter는 폐기된 토큰을 jwt_blacklist 테이블에 저장하는 컴포넌트입니다.
+ * 기본적으로는 요청 스레드에서 바로 한 행을 저장하고, write-behind 모드가 켜져 있으면 큐에 넣은 뒤
+ * 별도 스레드가 크기와 시간 기준으로 묶어 JDBC 배치 INSERT로 저장합니다.
+ * 대량 로그아웃 시 작은 트랜잭션이 몰리는 것을 막기 위한 용도이며, 종료 시에는 큐를 모두 비운 뒤 멈춥니다.
+ * 저장에 실패한 배치는 종료 중에도 shutdown-timeout-ms까지 다시 시도하고, 그래도 남은 항목(실패한 배치 포함)은
+ * destroy에서 대기 목록 전체를 한 번 더 저장합니다. (INSERT IGNORE이므로 중복 저장은 무해)
+ */
+@Slf4j
+@Component
+public class BlacklistWriter implements InitializingBean, DisposableBean {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO jwt_blacklist (jti_digest, expired_at) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate; // 데이터베이스 작업을 수행하기 위한 JdbcTemplate
+    private final boolean writeBehindEnabled; // write-behind 모드 사용 여부
+    private final int batchSize; // 한 번에 저장할 최대 행 수
+    private final long flushIntervalMillis; // 배치를 채우기 위해 기다리는 최대 시간
+    private final long shutdownTimeoutMillis; // 종료 시 큐를 비우기 위해 기다리는 최대 시간
+
+    private final BlockingQueue<PendingRevocation> queue; // 저장 대기 중인 폐기 정보 (순서 유지)
+    private final Map<TokenDigest, PendingRevocation> pending = new ConcurrentHashMap<>(); // 저장이 끝나지 않은 폐기 정보
+
+    private final Timer flushTimer; // 배치 저장 소요 시간
+    private final Counter flushedCounter; // 배치로 저장된 행 수
+    private final Counter overflowCounter; // 큐가 가득 차 동기 저장으로 처리된 수
+
+    private volatile boolean running;
+    private volatile long shutdownDeadlineNanos; // 종료 요청 후 저장을 다시 시도할 수 있는 마지막 시각
+    private Thread flusher;
+
+    public BlacklistWriter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.blacklist.write-behind.enabled:false}") boolean writeBehindEnabled,
+            @Value("${jwt.blacklist.write-behind.batch-size:500}") int batchSize,
+            @Value("${jwt.blacklist.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${jwt.blacklist.write-behind.queue-capacity:100000}") int queueCapacity,
+            @Value("${jwt.blacklist.write-behind.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeBehindEnabled = writeBehindEnabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("jwt.blacklist.write_behind.queue.depth", pending, Map::size)
+                .description("저장 대기 중인 블랙리스트 항목 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("jwt.blacklist.write_behind.flush")
+                .description("블랙리스트 배치 INSERT 소요 시간")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("jwt.blacklist.write_behind.flushed")
+                .description("배치로 저장된 블랙리스트 항목 수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("jwt.blacklist.write_behind.overflow")
+                .description("큐가 가득 차 동기 저장으로 처리된 블랙리스트 항목 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!writeBehindEnabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "blacklist-write-behind");
+        flusher.start();
+    }
+
+    /**
+     * 폐기 정보를 저장합니다. write-behind 모드에서는 큐에 넣고 바로 반환하며,
+     * 큐가 가득 찬 경우에는 요청 스레드에서 동기로 저장합니다.
+     * 큐에 넣는 동안 종료가 시작되었으면 destroy가 그 항목을 놓쳤을 수 있으므로 요청 스레드에서 다시 저장합니다.
+     * @param digest jti 다이제스트
+     * @param expiredAt 토큰 만료 시각
+     */
+    public void write(TokenDigest digest, LocalDateTime expiredAt) {
+        if (running) {
+            PendingRevocation revocation = new PendingRevocation(digest, expiredAt);
+            pending.put(digest, revocation);
+            if (queue.offer(revocation)) {
+                if (!running) {
+                    // 확인 직후 destroy가 시작되었다면 대기 목록을 이미 저장했을 수 있으므로 직접 저장 (중복 저장은 무해)
+                    jdbcTemplate.update(INSERT_SQL, digest.toBytes(), expiredAt);
+                    pending.remove(digest, revocation);
+                }
+                return;
+            }
+            pending.remove(digest, revocation);
+            overflowCounter.increment();
+        }
+        jdbcTemplate.update(INSERT_SQL, digest.toBytes(), expiredAt);
+    }
+
+    /**
+     * 아직 데이터베이스에 저장되지 않은 폐기 정보인지 확인합니다.
+     */
+    public boolean isPending(TokenDigest digest) {
+        return pending.containsKey(digest);
+    }
+
+    /**
+     * 아직 데이터베이스에 저장되지 않은 모든 폐기 정보의 다이제스트를 전달합니다. (블룸 필터 재구성용)
+     */
+    public void forEachPending(Consumer<TokenDigest> action) {
+        pending.keySet().forEach(action);
+    }
+
+    /**
+     * 큐에서 항목을 꺼내 batchSize개가 모이거나 flushInterval이 지나면 한 번에 저장합니다.
+     * 종료 요청 후에도 큐가 빌 때까지 계속 저장합니다.
+     */
+    private void flushLoop() {
+        List<PendingRevocation> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    PendingRevocation first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                    while (batch.size() < batchSize) {
+                        queue.drainTo(batch, batchSize - batch.size());
+                        long remaining = deadline - System.nanoTime();
+                        if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                            break;
+                        }
+                        PendingRevocation next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                }
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (DataAccessException e) {
+                // 저장에 실패한 배치는 그대로 두고 잠시 후 다시 시도합니다. (메모리 폐기 정보에는 이미 반영됨)
+                // 종료 중이면 shutdown-timeout-ms까지만 다시 시도하고, 남은 항목은 destroy에서 저장합니다.
+                log.error("블랙리스트 배치 저장에 실패했습니다. size={}, error={}", batch.size(), e.getMessage());
+                if (!running && System.nanoTime() - shutdownDeadlineNanos >= 0) {
+                    break;
+                }
+                sleepQuietly(flushIntervalMillis);
+            }
+        }
+    }
+
+    private void flush(List<PendingRevocation> batch) {
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (PendingRevocation revocation : batch) {
+            args.add(new Object[] { revocation.digest().toBytes(), revocation.expiredAt() });
+        }
+        flushTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, args));
+        flushedCounter.increment(batch.size());
+
+        // 커밋이 끝난 뒤에 대기 목록에서 제거해야 재구성 중인 블룸 필터가 항목을 놓치지 않습니다.
+        for (PendingRevocation revocation : batch) {
+            pending.remove(revocation.digest(), revocation);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 큐에 남은 항목을 모두 저장한 뒤 스레드를 멈춥니다.
+     * 스레드가 저장하지 못한 항목(실패한 배치, 종료 직전에 큐에 들어온 항목)은 대기 목록에 남아 있으므로 현재 스레드에서 저장합니다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        shutdownDeadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
+        running = false;
+        flusher.join(shutdownTimeoutMillis);
+        if (flusher.isAlive()) {
+            log.warn("블랙리스트 write-behind 큐를 제한 시간 안에 비우지 못했습니다. remaining={}", pending.size());
+            flusher.interrupt(); // 대기 중이면 깨워서 멈추게 하고, 남은 항목은 아래에서 저장
+            flusher.join(flushIntervalMillis);
+        }
+
+        queue.clear(); // 큐의 항목은 모두 대기 목록에도 있음
+        List<PendingRevocation> rest = new ArrayList<>(pending.values());
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            List<PendingRevocation> chunk = rest.subList(from, Math.min(from + batchSize, rest.size()));
+            try {
+                flush(chunk);
+            } catch (DataAccessException e) {
+                log.error("저장하지 못한 블랙리스트 항목이 남아 있습니다. count={}, error={}", rest.size() - from, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private record PendingRevocation(TokenDigest digest, LocalDateTime expiredAt) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.jwt.demo.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jwt.demo.util.TokenDigest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JdbcTailingRevocationChannel은 jwt_blacklist의 단조 증가하는 seq 컬럼을 커서로 삼아
+ * 다른 노드가 추가한 폐기 정보를 작은 배치로 점진적으로 읽어 오는 기본 RevocationChannel입니다.
+ * 데이터베이스 행 자체가 메시지이므로 publish는 아무것도 하지 않으며, 각 노드는 poll-interval-ms 안에 수렴합니다.
+ * (write-behind 모드에서는 flush-interval-ms만큼의 지연이 더해집니다.)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.blacklist.propagation.mode", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcTailingRevocationChannel implements RevocationChannel {
+
+    private static final String TAIL_SQL =
+            "SELECT seq, jti_digest, expired_at, TIMESTAMPDIFF(MICROSECOND, created_at, NOW(3)) AS lag_us "
+            + "FROM jwt_blacklist WHERE seq > ? ORDER BY seq LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate; // 데이터베이스 작업을 수행하기 위한 JdbcTemplate
+    private final RevocationCache revocationCache; // 전파받은 폐기 정보를 반영할 프로세스 내 계층
+    private final int batchSize; // 한 번에 읽을 최대 행 수
+    private final int maxBatchesPerPoll; // 한 번의 poll에서 읽을 최대 배치 수
+    private final long lookbackRows; // 커밋 순서가 seq 순서와 다를 때를 대비해 다시 읽는 행 수
+
+    private final AtomicLong cursor = new AtomicLong(-1); // 마지막으로 반영한 seq (-1이면 초기화 전)
+    private final Timer lagTimer; // 행이 저장된 뒤 이 노드에 반영되기까지 걸린 시간
+
+    public JdbcTailingRevocationChannel(
+            JdbcTemplate jdbcTemplate,
+            RevocationCache revocationCache,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.blacklist.propagation.batch-size:1000}") int batchSize,
+            @Value("${jwt.blacklist.propagation.max-batches-per-poll:10}") int maxBatchesPerPoll,
+            @Value("${jwt.blacklist.propagation.lookback-rows:100}") long lookbackRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.revocationCache = revocationCache;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.lookbackRows = lookbackRows;
+
+        this.lagTimer = Timer.builder("jwt.blacklist.propagation.lag")
+                .description("다른 노드의 블랙리스트 등록이 이 노드에 반영되기까지의 지연")
+                .register(meterRegistry);
+        Gauge.builder("jwt.blacklist.propagation.cursor", cursor, AtomicLong::get)
+                .description("마지막으로 반영한 jwt_blacklist seq")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 블룸 필터 warm-up보다 먼저 현재 seq의 최댓값을 커서로 잡아, warm-up 이후에 추가된 행을 놓치지 않도록 합니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeCursor() {
+        try {
+            Long maxSeq = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM jwt_blacklist", Long.class);
+            cursor.set(maxSeq == null ? 0 : maxSeq);
+        } catch (DataAccessException e) {
+            log.warn("블랙리스트 전파 커서를 초기화하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void publish(TokenDigest digest, long expiresAtMillis) {
+        // jwt_blacklist에 저장된 행을 다른 노드가 직접 읽어 가므로 별도로 발행하지 않습니다.
+    }
+
+    /**
+     * 커서 이후에 추가된 행을 배치 단위로 읽어 RevocationCache에 반영합니다.
+     * 커밋 순서가 seq 순서와 달라 생기는 빈틈을 메우기 위해 lookbackRows만큼 겹쳐 읽으며, 중복 반영은 무해합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.propagation.poll-interval-ms:1000}")
+    public void poll() {
+        if (cursor.get() < 0) {
+            initializeCursor(); // 시작 시 초기화에 실패했다면 다시 시도
+            return;
+        }
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                long seen = cursor.get();
+                int rows = tail(seen, i == 0 ? Math.max(0, seen - lookbackRows) : seen);
+                if (rows < batchSize) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("블랙리스트 전파 조회에 실패했습니다: {}", e.getMessage());
+        }
+    }
+
+    private int tail(long seen, long from) {
+        long now = System.currentTimeMillis();
+        return jdbcTemplate.query(TAIL_SQL, rs -> {
+            int rows = 0;
+            while (rs.next()) {
+                rows++;
+                long seq = rs.getLong(1);
+                long expiresAtMillis = rs.getObject(3, LocalDateTime.class)
+                        .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                if (expiresAtMillis > now) {
+                    revocationCache.add(TokenDigest.fromBytes(rs.getBytes(2)), expiresAtMillis);
+                }
+                if (seq > seen) {
+                    lagTimer.record(Math.max(0, rs.getLong(4)), TimeUnit.MICROSECONDS);
+                    cursor.accumulateAndGet(seq, Math::max);
+                }
+            }
+            return rows;
+        }, from, batchSize);
+    }
+}
@@ -0,0 +1,20 @@
+package com.jwt.demo.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.jwt.demo.util.TokenDigest;
+
+/**
+ * LocalRevocationChannel은 단일 인스턴스 환경에서 사용하는, 아무것도 전파하지 않는 RevocationChannel입니다.
+ * jwt.blacklist.propagation.mode=none 으로 설정하면 사용됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.blacklist.propagation.mode", havingValue = "none")
+public class LocalRevocationChannel implements RevocationChannel {
+
+    @Override
+    public void publish(TokenDigest digest, long expiresAtMillis) {
+        // 다른 노드가 없으므로 전파하지 않습니다.
+    }
+}
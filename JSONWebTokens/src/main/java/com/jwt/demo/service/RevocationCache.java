@@ -0,0 +1,119 @@
+package com.jwt.demo.service;
+
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jwt.demo.util.BloomFilter;
+import com.jwt.demo.util.ExpireAtExpiry;
+import com.jwt.demo.util.TokenDigest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RevocationCache는 jwt_blacklist 테이블 앞에 놓이는 프로세스 내 폐기(revocation) 정보 계층입니다.
+ * 블룸 필터로 "확실히 폐기되지 않음"을 I/O 없이 판단하고, 폐기가 확인된 토큰은 만료 시각까지 크기 제한 캐시에 보관합니다.
+ * 필터는 시작 시 jwt_blacklist에서 채워지며(warm-up), 이후 블랙리스트 추가 시마다 갱신됩니다.
+ */
+@Slf4j
+@Component
+public class RevocationCache {
+
+    private final long expectedInsertions; // 블룸 필터 예상 항목 수
+    private final double falsePositiveProbability; // 블룸 필터 목표 오탐률
+    private final Cache<TokenDigest, Long> revoked; // 폐기가 확인된 다이제스트 -> 만료 시각 (epoch 밀리초)
+
+    private volatile BloomFilter filter; // 현재 사용 중인 블룸 필터
+    private volatile BloomFilter rebuilding; // 재구성 중인 블룸 필터 (재구성 중이 아니면 null)
+    private volatile boolean warm; // warm-up 완료 여부 (완료 전에는 필터 결과를 신뢰할 수 없음)
+
+    public RevocationCache(
+            @Value("${jwt.blacklist.filter.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.blacklist.filter.false-positive-probability:0.01}") double falsePositiveProbability,
+            @Value("${jwt.blacklist.revoked-cache.maximum-size:10000}") long revokedCacheSize,
+            MeterRegistry meterRegistry) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(revokedCacheSize)
+                .expireAfter(new ExpireAtExpiry<TokenDigest, Long>(Long::longValue)) // 토큰 만료 시각에 항목 제거
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, revoked, "jwt.blacklist.revoked");
+        Gauge.builder("jwt.blacklist.filter.insertions", this, cache -> cache.filter.getInsertions())
+                .description("블룸 필터에 추가된 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.blacklist.filter.expected.fpp", this, cache -> cache.filter.expectedFalsePositiveProbability())
+                .description("비트 채움 비율로 추정한 블룸 필터 오탐률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * warm-up이 끝나 필터의 음성 결과를 신뢰할 수 있는지 여부를 반환합니다.
+     */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * 다이제스트가 폐기되었을 가능성이 있는지 확인합니다.
+     * @return false이면 확실히 폐기되지 않음 (warm-up 이후에만 유효)
+     */
+    public boolean mightBeRevoked(TokenDigest digest) {
+        return filter.mightContain(digest);
+    }
+
+    /**
+     * 폐기가 확인되어 캐시에 보관 중인 다이제스트인지 확인합니다.
+     */
+    public boolean isKnownRevoked(TokenDigest digest) {
+        return revoked.getIfPresent(digest) != null;
+    }
+
+    /**
+     * 데이터베이스에서 폐기가 확인된 다이제스트를 캐시에 보관합니다.
+     */
+    public void markRevoked(TokenDigest digest, long expiresAtMillis) {
+        revoked.put(digest, expiresAtMillis);
+    }
+
+    /**
+     * 새로 폐기된 다이제스트를 필터와 캐시에 반영합니다.
+     * 반드시 jwt_blacklist 저장이 끝난 뒤 호출해야 재구성 중에도 항목이 누락되지 않습니다.
+     */
+    public void add(TokenDigest digest, long expiresAtMillis) {
+        BloomFilter next = rebuilding; // 재구성 중이면 새 필터에도 먼저 반영
+        if (next != null) {
+            next.put(digest);
+        }
+        filter.put(digest);
+        revoked.put(digest, expiresAtMillis);
+    }
+
+    /**
+     * 주어진 원본 데이터로 블룸 필터를 새로 만들어 교체합니다. 만료되어 삭제된 항목이 필터에서 빠지게 됩니다.
+     * 재구성 중에 추가되는 항목은 새 필터에도 함께 기록되므로 누락되지 않습니다.
+     * @param source 유효한 폐기 다이제스트를 모두 전달하는 원본 (예: jwt_blacklist 조회)
+     */
+    public synchronized void rebuild(Consumer<Consumer<TokenDigest>> source) {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        rebuilding = next;
+        try {
+            source.accept(next::put);
+            filter = next;
+            warm = true;
+            log.info("블랙리스트 블룸 필터를 재구성했습니다. entries={}, expectedFpp={}",
+                    next.getInsertions(), next.expectedFalsePositiveProbability());
+        } finally {
+            rebuilding = null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.jwt.demo.service;
+
+import com.jwt.demo.util.TokenDigest;
+
+/**
+ * RevocationChannel은 여러 인스턴스로 운영할 때 각 노드의 프로세스 내 폐기 정보(RevocationCache)를 서로 맞추기 위한 전파 채널입니다.
+ * 구현체는 다른 노드에서 발생한 폐기를 받아 RevocationCache.add로 반영해야 합니다.
+ * 기본 구현은 jwt_blacklist의 seq 컬럼을 따라 읽는 JdbcTailingRevocationChannel이며,
+ * Redis pub/sub 같은 메시지 브로커 구현은 publish에서 메시지를 발행하고 수신 시 RevocationCache에 반영하면 됩니다.
+ */
+public interface RevocationChannel {
+
+    /**
+     * 이 노드에서 새로 폐기한 토큰을 다른 노드에 알립니다.
+     * jwt_blacklist 저장 요청이 끝난 뒤에 호출됩니다.
+     * @param digest jti 다이제스트
+     * @param expiresAtMillis 토큰 만료 시각 (epoch 밀리초)
+     */
+    void publish(TokenDigest digest, long expiresAtMillis);
+}
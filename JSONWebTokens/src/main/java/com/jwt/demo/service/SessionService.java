@@ -0,0 +1,84 @@
+package com.jwt.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jwt.demo.dto.SessionDto;
+import com.jwt.demo.dto.SessionPageDto;
+import com.jwt.demo.entities.RefreshToken;
+import com.jwt.demo.repository.RefreshTokenRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SessionService는 사용자의 로그인 세션(유효한 리프레시 토큰)을 조회하고 폐기합니다.
+ * 조회는 인덱스를 사용하는 페이지 단위 쿼리 하나, 폐기는 조건부 UPDATE 하나로 처리하므로 세션 수와 관계없이 엔티티를 하나씩 읽지 않습니다.
+ * 세션을 폐기하면 그 세션의 리프레시 토큰으로는 더 이상 갱신할 수 없고, 이미 발급된 액세스 토큰은 만료 시간까지만 사용됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionService {
+
+    private static final int MAX_PAGE_SIZE = 100; // 한 번에 조회할 수 있는 최대 세션 수
+
+    private final RefreshTokenRepository refreshTokenRepository; // 리프레시 토큰을 관리하는 리포지토리
+
+    /**
+     * 사용자의 유효한 세션을 최근에 발급된 순서로 조회합니다.
+     * @param username 사용자 이름
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 세션 목록과 다음 페이지 여부
+     */
+    @Transactional(readOnly = true)
+    public SessionPageDto getActiveSessions(String username, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        Slice<SessionDto> slice = refreshTokenRepository.findActiveByUsername(username, LocalDateTime.now(), pageRequest);
+        return SessionPageDto.builder()
+                .sessions(slice.getContent())
+                .page(slice.getNumber())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    /**
+     * 사용자의 세션 하나를 폐기합니다. (해당 기기 로그아웃)
+     * @param username 사용자 이름
+     * @param sessionId 세션 식별자
+     * @return 폐기했으면 true, 사용자의 유효한 세션이 아니면 false
+     */
+    @Transactional
+    public boolean revokeSession(String username, UUID sessionId) {
+        int updated = refreshTokenRepository.expireByTokenDigestAndUsername(sessionId, username, LocalDateTime.now());
+        log.info("세션을 폐기했습니다: {}, session={}, updated={}", username, sessionId, updated);
+        return updated > 0;
+    }
+
+    /**
+     * 현재 세션을 제외한 사용자의 모든 세션을 폐기합니다. (다른 기기 로그아웃)
+     * 현재 세션이 사용자의 유효한 세션인지 먼저 확인합니다. (잘못되었거나 만료되었거나 다른 사용자의 토큰이면 남길 세션 없이 모두 폐기되므로)
+     * @param username 사용자 이름
+     * @param currentRefreshToken 유지할 현재 세션의 리프레시 토큰
+     * @return 폐기한 세션 수, 현재 세션이 사용자의 유효한 세션이 아니면 빈 값
+     */
+    @Transactional
+    public Optional<Integer> revokeOtherSessions(String username, String currentRefreshToken) {
+        UUID currentTokenDigest = RefreshToken.digestOf(currentRefreshToken);
+        LocalDateTime now = LocalDateTime.now();
+        if (!refreshTokenRepository.existsActiveByTokenDigestAndUsername(currentTokenDigest, username, now)) {
+            log.info("현재 세션이 유효하지 않아 다른 세션을 폐기하지 않았습니다: {}", username);
+            return Optional.empty();
+        }
+        int updated = refreshTokenRepository.expireAllByUsernameExcept(username, currentTokenDigest, now);
+        log.info("다른 세션을 모두 폐기했습니다: {}, updated={}", username, updated);
+        return Optional.of(updated);
+    }
+}
@@ -1,45 +1,218 @@
 package com.jwt.demo.service;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.jwt.demo.util.TokenDigest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * TokenBlacklistService는 블랙리스트에 등록된 JWT 토큰을 관리하는 서비스입니다.
  * 토큰을 블랙리스트에 추가하고, 특정 토큰이 블랙리스트에 있는지 확인하는 메서드를 제공합니다.
+ * 조회는 RevocationCache(블룸 필터 + 폐기 캐시)를 먼저 확인하고, 필터가 "폐기되었을 수 있음"이라고 답한 경우에만 데이터베이스를 조회합니다.
  */
+@Slf4j
 @Service
 public class TokenBlacklistService {
 
+    /** 프로세스 내 정보만으로 판단한 폐기 여부 */
+    public enum Revocation {
+        REVOKED, // 폐기된 토큰
+        NOT_REVOKED, // 폐기되지 않은 토큰 (블룸 필터에 없음)
+        UNKNOWN // 데이터베이스 조회가 필요함 (필터 적중 또는 warm-up 이전)
+    }
+
+    private static final int IN_BATCH_SIZE = 500; // 일괄 조회 시 IN 목록 하나에 넣는 최대 키 수
+
     private final JdbcTemplate jdbcTemplate; // 데이터베이스 작업을 수행하기 위한 JdbcTemplate
+    private final RevocationCache revocationCache; // 프로세스 내 폐기 정보 계층
+    private final BlacklistWriter blacklistWriter; // jwt_blacklist 저장 (동기 또는 write-behind)
+    private final RevocationChannel revocationChannel; // 다른 노드로 폐기 정보를 전파하는 채널
+
+    private final Counter missCounter; // 필터가 "폐기되지 않음"으로 판단한 조회 수 (I/O 없음)
+    private final Counter hitCounter; // 폐기 캐시에서 바로 찾은 조회 수 (I/O 없음)
+    private final Counter databaseHitCounter; // 데이터베이스에서 폐기가 확인된 조회 수
+    private final Counter falsePositiveCounter; // 필터 오탐으로 데이터베이스를 조회했지만 폐기되지 않은 조회 수
+    private final Counter coldCounter; // warm-up 이전이라 데이터베이스로 바로 조회한 수
+    private final Timer insertTimer; // 블랙리스트 저장 시간 (write-behind 모드에서는 큐 등록 시간)
 
-    // 생성자 주입으로 JdbcTemplate을 주입받습니다.
+    // 생성자 주입으로 JdbcTemplate, RevocationCache, BlacklistWriter, RevocationChannel을 주입받습니다.
     @Autowired
-    public TokenBlacklistService(JdbcTemplate jdbcTemplate) {
+    public TokenBlacklistService(JdbcTemplate jdbcTemplate, RevocationCache revocationCache, BlacklistWriter blacklistWriter,
+                                 RevocationChannel revocationChannel, MeterRegistry meterRegistry) {
         this.jdbcTemplate = jdbcTemplate;
+        this.revocationCache = revocationCache;
+        this.blacklistWriter = blacklistWriter;
+        this.revocationChannel = revocationChannel;
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.databaseHitCounter = lookupCounter(meterRegistry, "db_hit");
+        this.falsePositiveCounter = lookupCounter(meterRegistry, "false_positive");
+        this.coldCounter = lookupCounter(meterRegistry, "cold");
+        this.insertTimer = Timer.builder("jwt.blacklist.insert")
+                .description("블랙리스트 저장 시간 (write-behind 모드에서는 큐 등록 시간)")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.blacklist.lookups")
+                .description("블랙리스트 조회 결과별 횟수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작이 끝나면 jwt_blacklist의 유효한 항목으로 블룸 필터를 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuildFilter();
+    }
+
+    /**
+     * 매일 블룸 필터를 다시 만들어, 만료되어 삭제된 토큰이 필터의 오탐률을 높이지 않도록 합니다.
+     */
+    @Scheduled(cron = "${jwt.blacklist.filter.rebuild-cron:0 30 0 * * *}")
+    public void rebuildFilter() {
+        try {
+            revocationCache.rebuild(sink -> {
+                // 아직 저장되지 않은 항목을 먼저 넣고, 그다음 테이블을 읽어야 저장 중인 항목이 누락되지 않습니다.
+                blacklistWriter.forEachPending(sink);
+                jdbcTemplate.query(
+                        "SELECT jti_digest FROM jwt_blacklist WHERE expired_at > NOW()",
+                        rs -> {
+                            sink.accept(TokenDigest.fromBytes(rs.getBytes(1)));
+                        });
+            });
+        } catch (DataAccessException e) {
+            // 필터를 채우지 못하면 모든 조회를 데이터베이스로 처리합니다.
+            log.warn("블랙리스트 블룸 필터를 구성하지 못했습니다: {}", e.getMessage());
+        }
     }
 
     /**
      * 주어진 토큰을 블랙리스트에 추가합니다.
-     * @param token 블랙리스트에 추가할 JWT 토큰
+     * 토큰 문자열 대신 토큰 식별자(jti)의 16바이트 다이제스트를 저장하여 테이블과 인덱스 크기를 줄입니다.
+     * @param tokenId 블랙리스트에 추가할 토큰의 식별자 (jti)
      * @param expiredAt 해당 토큰의 만료 시간
      */
-    public void addToBlacklist(String token, LocalDateTime expiredAt) {
-        // jwt_blacklist 테이블에 토큰과 만료 시간을 저장하는 SQL 쿼리
-        String sql = "INSERT INTO jwt_blacklist (token, expired_at) VALUES (?, ?)";
-        jdbcTemplate.update(sql, token, expiredAt); // 데이터베이스에 토큰을 추가
+    public void addToBlacklist(String tokenId, LocalDateTime expiredAt) {
+        TokenDigest digest = TokenDigest.of(tokenId);
+
+        // jwt_blacklist 테이블에 jti 다이제스트와 만료 시간을 저장 (write-behind 모드에서는 큐에 넣고 바로 반환)
+        insertTimer.record(() -> blacklistWriter.write(digest, expiredAt));
+
+        // 저장(또는 저장 대기 등록)이 끝난 뒤 프로세스 내 폐기 정보에 반영하여 이 노드에서는 즉시 효력이 생기도록 함
+        long expiresAtMillis = toEpochMillis(expiredAt);
+        revocationCache.add(digest, expiresAtMillis);
+
+        // 다른 노드에도 폐기 사실을 알림
+        revocationChannel.publish(digest, expiresAtMillis);
     }
 
     /**
      * 특정 토큰이 블랙리스트에 등록되어 있는지 확인합니다.
-     * @param token 확인할 JWT 토큰
+     * 프로세스 내 폐기 정보로 판단할 수 없을 때만 데이터베이스를 조회합니다.
+     * @param tokenId 확인할 토큰의 식별자 (jti)
      * @return 블랙리스트에 있으면 true, 그렇지 않으면 false
      */
-    public boolean isBlacklisted(String token) {
-        // 토큰이 블랙리스트에 있는지와 만료 시간이 현재 시간보다 이후인지를 확인하는 SQL 쿼리
-        String sql = "SELECT COUNT(*) FROM jwt_blacklist WHERE token = ? AND expired_at > NOW()";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, token);
-        return count != null && count > 0; // 블랙리스트에 있는 경우 true 반환
+    public boolean isBlacklisted(String tokenId) {
+        TokenDigest digest = TokenDigest.of(tokenId);
+        return switch (checkInMemory(digest)) {
+            case REVOKED -> true;
+            case NOT_REVOKED -> false;
+            case UNKNOWN -> isBlacklistedInDatabase(digest);
+        };
+    }
+
+    /**
+     * 블룸 필터, 폐기 캐시, 저장 대기 중인 항목만으로 폐기 여부를 판단합니다. (I/O 없음)
+     * @param digest 토큰 식별자(jti)의 다이제스트
+     * @return 판단 결과, UNKNOWN이면 isBlacklistedInDatabase로 확인해야 함
+     */
+    public Revocation checkInMemory(TokenDigest digest) {
+        if (!revocationCache.isWarm()) {
+            coldCounter.increment();
+            return blacklistWriter.isPending(digest) ? Revocation.REVOKED : Revocation.UNKNOWN;
+        }
+        if (!revocationCache.mightBeRevoked(digest)) {
+            missCounter.increment();
+            return Revocation.NOT_REVOKED; // 필터에 없으면 확실히 폐기되지 않은 토큰
+        }
+        if (revocationCache.isKnownRevoked(digest) || blacklistWriter.isPending(digest)) {
+            hitCounter.increment();
+            return Revocation.REVOKED;
+        }
+        return Revocation.UNKNOWN; // 필터 적중 (오탐일 수 있음)
+    }
+
+    /**
+     * 데이터베이스에서 폐기 여부를 확인하고, 폐기된 토큰이면 다음 조회부터 캐시에서 처리되도록 합니다.
+     * @param digest 토큰 식별자(jti)의 다이제스트
+     * @return 블랙리스트에 있으면 true, 그렇지 않으면 false
+     */
+    public boolean isBlacklistedInDatabase(TokenDigest digest) {
+        // jti 다이제스트(기본키)로 한 행만 읽고, 만료 시간이 현재 시간보다 이후인지를 확인하는 SQL 쿼리
+        String sql = "SELECT expired_at FROM jwt_blacklist WHERE jti_digest = ? AND expired_at > NOW()";
+        LocalDateTime expiredAt = jdbcTemplate.query(sql,
+                rs -> rs.next() ? rs.getObject(1, LocalDateTime.class) : null, digest.toBytes());
+        boolean blacklisted = expiredAt != null;
+        if (revocationCache.isWarm()) {
+            (blacklisted ? databaseHitCounter : falsePositiveCounter).increment(); // warm-up 이전의 조회는 cold로 집계됨
+        }
+        if (blacklisted) {
+            revocationCache.markRevoked(digest, toEpochMillis(expiredAt)); // 다음 조회는 캐시에서 처리
+        }
+        return blacklisted;
+    }
+
+    /**
+     * 여러 토큰의 폐기 여부를 데이터베이스에서 한 번에 확인합니다. (기본키 IN 조회, IN_BATCH_SIZE개씩)
+     * 폐기된 토큰은 isBlacklistedInDatabase와 같이 다음 조회부터 캐시에서 처리되도록 합니다.
+     * @param digests checkInMemory가 UNKNOWN으로 판단한 토큰 식별자(jti)의 다이제스트
+     * @return 블랙리스트에 있는 다이제스트
+     */
+    public Set<TokenDigest> findBlacklistedInDatabase(Collection<TokenDigest> digests) {
+        if (digests.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<TokenDigest> keys = List.copyOf(digests);
+        Set<TokenDigest> blacklisted = new HashSet<>();
+        for (int from = 0; from < keys.size(); from += IN_BATCH_SIZE) {
+            List<TokenDigest> batch = keys.subList(from, Math.min(from + IN_BATCH_SIZE, keys.size()));
+            String sql = "SELECT jti_digest, expired_at FROM jwt_blacklist WHERE jti_digest IN ("
+                    + String.join(",", Collections.nCopies(batch.size(), "?")) + ") AND expired_at > NOW()";
+            jdbcTemplate.query(sql, rs -> {
+                TokenDigest digest = TokenDigest.fromBytes(rs.getBytes(1));
+                blacklisted.add(digest);
+                revocationCache.markRevoked(digest, toEpochMillis(rs.getObject(2, LocalDateTime.class)));
+            }, batch.stream().map(TokenDigest::toBytes).toArray());
+        }
+        if (revocationCache.isWarm()) {
+            databaseHitCounter.increment(blacklisted.size());
+            falsePositiveCounter.increment(keys.size() - blacklisted.size());
+        }
+        return blacklisted;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
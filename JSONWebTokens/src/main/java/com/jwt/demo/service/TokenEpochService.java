@@ -0,0 +1,178 @@
+package com.jwt.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jwt.demo.repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TokenEpochService는 사용자별 토큰 세대(epoch)를 관리합니다.
+ * 토큰에는 발급 시점의 세대가 ver 클레임으로 기록되며, 사용자의 현재 세대보다 작은 ver를 가진 토큰은 폐기된 것으로 봅니다.
+ * revokeAll로 세대를 하나 올리면 그 사용자의 모든 토큰이 한 번에 폐기되므로, 토큰마다 블랙리스트에 등록할 필요가 없습니다.
+ *
+ * 세대는 user_token_epoch 테이블(사용자당 한 행)에 저장하고, 요청 처리 경로에서는 메모리의 맵만 조회합니다.
+ * 시작 시 전체 행을 읽어 두고, 이후에는 updated_at을 커서로 다른 노드가 변경한 행만 주기적으로 읽어 반영합니다.
+ * 처음 읽기가 끝나기 전에는 데이터베이스에서 직접 조회합니다.
+ */
+@Slf4j
+@Service
+public class TokenEpochService {
+
+    private static final String BUMP_SQL = "INSERT INTO user_token_epoch (username, epoch, updated_at) VALUES (?, 1, NOW(3)) "
+            + "ON DUPLICATE KEY UPDATE epoch = epoch + 1, updated_at = NOW(3)";
+    private static final String SELECT_SQL = "SELECT epoch FROM user_token_epoch WHERE username = ?";
+    private static final String TAIL_SQL = "SELECT username, epoch, updated_at FROM user_token_epoch WHERE updated_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate; // user_token_epoch 조회와 변경
+    private final RefreshTokenRepository refreshTokenRepository; // 세대를 올릴 때 리프레시 토큰 행도 만료 처리
+    private final long lookbackMillis; // 커밋 순서가 updated_at 순서와 다를 때를 대비해 다시 읽는 시간
+
+    private final ConcurrentHashMap<String, Long> epochs = new ConcurrentHashMap<>(); // 사용자 이름 -> 현재 세대 (행이 없으면 0)
+    private volatile boolean warm; // 전체 행을 한 번 읽었는지 여부
+    private volatile LocalDateTime cursor; // 마지막으로 반영한 updated_at (데이터베이스 시각)
+
+    private final Counter revocationCounter; // revokeAll 호출 수
+    private final Counter coldCounter; // 처음 읽기 전이라 데이터베이스로 바로 조회한 수
+
+    public TokenEpochService(
+            JdbcTemplate jdbcTemplate,
+            RefreshTokenRepository refreshTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.token-epoch.lookback-ms:5000}") long lookbackMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.lookbackMillis = lookbackMillis;
+
+        this.revocationCounter = Counter.builder("jwt.token_epoch.revocations")
+                .description("사용자의 모든 토큰을 폐기(세대 증가)한 횟수")
+                .register(meterRegistry);
+        this.coldCounter = Counter.builder("jwt.token_epoch.cold_lookups")
+                .description("세대 맵을 읽기 전이라 데이터베이스에서 직접 조회한 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.token_epoch.users", epochs, ConcurrentHashMap::size)
+                .description("세대가 기록된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자의 현재 토큰 세대를 반환합니다. 새 토큰의 ver 클레임으로 사용합니다.
+     * @param username 사용자 이름
+     * @return 현재 세대 (한 번도 폐기하지 않은 사용자는 0)
+     */
+    public long currentEpoch(String username) {
+        if (!warm) {
+            coldCounter.increment();
+            return loadEpoch(username);
+        }
+        return epochs.getOrDefault(username, 0L);
+    }
+
+    /**
+     * 토큰의 세대가 사용자의 현재 세대 이상인지 확인합니다. (I/O 없음, 처음 읽기 전 제외)
+     * @param username 토큰의 subject
+     * @param tokenEpoch 토큰의 ver 클레임 (없으면 0)
+     * @return 폐기되지 않은 세대이면 true
+     */
+    public boolean isCurrent(String username, long tokenEpoch) {
+        return tokenEpoch >= currentEpoch(username);
+    }
+
+    /**
+     * 사용자의 세대를 올려 지금까지 발급된 모든 액세스/리프레시 토큰을 폐기합니다.
+     * 이 노드의 맵에는 트랜잭션이 커밋된 뒤에 반영되고, 다른 노드에는 poll-interval-ms 안에 반영됩니다.
+     * 비밀번호 변경, 계정 비활성화, 관리자의 강제 로그아웃 등에서 호출합니다.
+     * @param username 사용자 이름
+     * @return 새 세대
+     */
+    @Transactional
+    public long revokeAll(String username) {
+        jdbcTemplate.update(BUMP_SQL, username);
+        long epoch = loadEpoch(username);
+
+        // 리프레시 토큰 행도 만료 처리하여 세션 목록과 토큰 교체에서 바로 제외
+        refreshTokenRepository.expireAllByUsername(username, LocalDateTime.now());
+
+        // 롤백되면 데이터베이스에 없는 세대가 맵에 남아 새 토큰까지 거부되거나 그 세대로 발급되므로, 커밋된 뒤에만 맵에 반영
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyRevocation(username, epoch);
+                }
+            });
+        } else {
+            applyRevocation(username, epoch); // 트랜잭션 밖에서 호출되면 각 문장이 이미 커밋됨
+        }
+        return epoch;
+    }
+
+    private void applyRevocation(String username, long epoch) {
+        epochs.merge(username, epoch, Math::max);
+        revocationCounter.increment();
+        log.info("사용자의 모든 토큰을 폐기했습니다: {}, epoch={}", username, epoch);
+    }
+
+    /**
+     * 애플리케이션 시작이 끝나면 user_token_epoch의 모든 행을 맵으로 읽습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            // 전체 읽기 도중 변경된 행을 놓치지 않도록 커서를 먼저 잡음
+            LocalDateTime start = jdbcTemplate.queryForObject("SELECT NOW(3)", LocalDateTime.class);
+            jdbcTemplate.query("SELECT username, epoch FROM user_token_epoch",
+                    rs -> {
+                        epochs.merge(rs.getString(1), rs.getLong(2), Math::max);
+                    });
+            cursor = start;
+            warm = true;
+            log.info("사용자별 토큰 세대를 읽었습니다: {}명", epochs.size());
+        } catch (DataAccessException e) {
+            log.warn("사용자별 토큰 세대를 읽지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 커서 이후에 변경된 행을 읽어 맵에 반영합니다. 세대는 증가만 하므로 중복 반영은 무해합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.token-epoch.poll-interval-ms:1000}")
+    public void poll() {
+        if (!warm) {
+            warmUp(); // 시작 시 읽기에 실패했다면 다시 시도
+            return;
+        }
+        try {
+            LocalDateTime from = cursor.minusNanos(lookbackMillis * 1_000_000);
+            jdbcTemplate.query(TAIL_SQL, rs -> {
+                epochs.merge(rs.getString(1), rs.getLong(2), Math::max);
+                LocalDateTime updatedAt = rs.getObject(3, LocalDateTime.class);
+                if (updatedAt.isAfter(cursor)) {
+                    cursor = updatedAt;
+                }
+            }, from);
+        } catch (DataAccessException e) {
+            log.warn("사용자별 토큰 세대 조회에 실패했습니다: {}", e.getMessage());
+        }
+    }
+
+    private long loadEpoch(String username) {
+        Long epoch = jdbcTemplate.query(SELECT_SQL, rs -> rs.next() ? rs.getLong(1) : 0L, username);
+        return epoch == null ? 0 : epoch;
+    }
+}
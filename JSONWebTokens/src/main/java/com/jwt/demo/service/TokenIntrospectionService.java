@@ -0,0 +1,248 @@
+package com.jwt.demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import com.jwt.demo.dto.IntrospectionResultDto;
+import com.jwt.demo.exception.ServiceOverloadedException;
+import com.jwt.demo.jwt.AuthMetrics;
+import com.jwt.demo.jwt.VerifiedClaims;
+import com.jwt.demo.security.TokenValidationContext;
+import com.jwt.demo.security.TokenValidationPipeline;
+import com.jwt.demo.security.TokenValidationStage;
+import com.jwt.demo.util.TokenDigest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TokenIntrospectionService는 게이트웨이나 다른 서비스가 보낸 여러 토큰을 한 번에 검증합니다.
+ * 폐기 확인 전까지의 검증 단계(형태, 캐시, 만료, 서명, 세대)는 토큰을 묶음으로 나누어 전용 작업 풀에서 병렬로 실행하고,
+ * 폐기 여부는 프로세스 내 정보로 판단할 수 없는 토큰만 모아 데이터베이스를 한 번의 IN 조회로 확인합니다.
+ * 작업 풀의 큐가 가득 차거나 제한 시간 안에 끝나지 않으면 ServiceOverloadedException(503)을 던집니다.
+ */
+@Slf4j
+@Service
+public class TokenIntrospectionService implements DisposableBean {
+
+    private static final int MIN_CHUNK_SIZE = 8; // 작업 하나가 검증할 최소 토큰 수 (작업 전달 비용보다 검증 비용이 커지도록)
+
+    private final TokenValidationPipeline tokenValidationPipeline; // 토큰별 검증 (폐기 확인 전 단계까지)
+    private final TokenBlacklistService tokenBlacklistService; // 폐기 여부 확인
+    private final AuthMetrics authMetrics; // 거부 사유별 카운터
+    private final ThreadPoolExecutor executor; // 일괄 검증 전용 스레드 풀
+    private final int parallelism; // 요청 하나를 나누어 실행할 최대 작업 수 (요청 스레드 포함)
+    private final int maxTokens; // 요청 하나에 담을 수 있는 최대 토큰 수
+    private final long timeoutMillis; // 대기를 포함해 요청 하나의 검증에 허용하는 최대 시간
+    private final long retryAfterSeconds; // 포화 시 Retry-After 헤더 값
+
+    private final Timer batchTimer; // 요청 하나의 전체 처리 시간
+    private final DistributionSummary batchSizeSummary; // 요청 하나에 담긴 토큰 수
+    private final Counter rejectedCounter; // 포화로 거절된 요청 수
+
+    public TokenIntrospectionService(
+            TokenValidationPipeline tokenValidationPipeline,
+            TokenBlacklistService tokenBlacklistService,
+            AuthMetrics authMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.introspection.threads:0}") int threads,
+            @Value("${jwt.introspection.queue-capacity:64}") int queueCapacity,
+            @Value("${jwt.introspection.max-tokens:100}") int maxTokens,
+            @Value("${jwt.introspection.timeout-ms:1000}") long timeoutMillis,
+            @Value("${jwt.introspection.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.tokenValidationPipeline = tokenValidationPipeline;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.authMetrics = authMetrics;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors(); // 0이면 코어 수만큼
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "token-introspection-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.parallelism = poolSize + 1;
+        this.maxTokens = maxTokens;
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.batchTimer = Timer.builder("jwt.introspection.batch")
+                .description("일괄 토큰 검증 요청 하나의 처리 시간")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("jwt.introspection.batch.size")
+                .description("일괄 토큰 검증 요청 하나에 담긴 토큰 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("jwt.introspection.rejected")
+                .description("작업 풀 포화 또는 제한 시간 초과로 거절된 일괄 검증 요청 수")
+                .register(meterRegistry);
+    }
+
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    /**
+     * 토큰들의 서명, 만료 시간, 세대, 폐기 여부를 확인합니다.
+     * @param tokens 검증할 토큰 목록 (getMaxTokens개까지)
+     * @return 토큰 순서와 같은 순서의 검증 결과
+     * @throws ServiceOverloadedException 작업 풀이 포화되었거나 제한 시간 안에 끝나지 않은 경우
+     */
+    public List<IntrospectionResultDto> introspect(List<String> tokens) {
+        long started = System.nanoTime();
+        try {
+            batchSizeSummary.record(tokens.size());
+            TokenValidationContext[] contexts = verifyAll(tokens);
+            resolveRevocation(contexts);
+
+            List<IntrospectionResultDto> results = new ArrayList<>(contexts.length);
+            for (TokenValidationContext context : contexts) {
+                results.add(toResult(context));
+            }
+            return results;
+        } finally {
+            batchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 폐기 확인 전까지의 단계를 토큰 묶음별로 병렬 실행합니다. 첫 묶음은 요청 스레드에서 직접 처리합니다.
+     */
+    private TokenValidationContext[] verifyAll(List<String> tokens) {
+        int count = tokens.size();
+        TokenValidationContext[] contexts = new TokenValidationContext[count];
+        if (count == 0) {
+            return contexts;
+        }
+        int tasks = Math.min(parallelism, (count + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE);
+        int chunkSize = (count + tasks - 1) / tasks;
+
+        List<Future<?>> futures = new ArrayList<>(tasks - 1);
+        try {
+            for (int task = 1; task < tasks; task++) {
+                int from = task * chunkSize;
+                int to = Math.min(count, from + chunkSize);
+                futures.add(executor.submit(() -> verifyRange(tokens, contexts, from, to)));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            rejectedCounter.increment();
+            throw overloaded();
+        }
+
+        verifyRange(tokens, contexts, 0, Math.min(count, chunkSize));
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (Future<?> future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                futures.forEach(pending -> pending.cancel(true)); // 아직 큐에 있다면 실행되지 않도록 취소
+                rejectedCounter.increment();
+                throw overloaded();
+            } catch (InterruptedException e) {
+                futures.forEach(pending -> pending.cancel(true));
+                Thread.currentThread().interrupt();
+                throw overloaded();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+        return contexts;
+    }
+
+    private void verifyRange(List<String> tokens, TokenValidationContext[] contexts, int from, int to) {
+        for (int i = from; i < to; i++) {
+            contexts[i] = tokenValidationPipeline.validateBefore(tokens.get(i), TokenValidationStage.LOCAL_REVOCATION);
+        }
+    }
+
+    /**
+     * 검증을 통과한 토큰의 폐기 여부를 확인합니다. 프로세스 내 정보로 판단할 수 없는 토큰만 모아 한 번에 조회합니다.
+     */
+    private void resolveRevocation(TokenValidationContext[] contexts) {
+        List<TokenValidationContext> unknown = new ArrayList<>();
+        for (TokenValidationContext context : contexts) {
+            if (context.isRejected() || !context.isVerified()) {
+                continue;
+            }
+            switch (tokenBlacklistService.checkInMemory(context.getTokenIdDigest())) {
+                case REVOKED -> revoked(context);
+                case NOT_REVOKED -> context.notRevoked();
+                case UNKNOWN -> unknown.add(context);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        Set<TokenDigest> blacklisted = tokenBlacklistService.findBlacklistedInDatabase(
+                unknown.stream().map(TokenValidationContext::getTokenIdDigest).toList());
+        for (TokenValidationContext context : unknown) {
+            if (blacklisted.contains(context.getTokenIdDigest())) {
+                revoked(context);
+            } else {
+                context.notRevoked();
+            }
+        }
+    }
+
+    private void revoked(TokenValidationContext context) {
+        context.reject(AuthMetrics.Failure.BLACKLISTED);
+        authMetrics.recordFailure(AuthMetrics.Failure.BLACKLISTED);
+    }
+
+    private static IntrospectionResultDto toResult(TokenValidationContext context) {
+        if (context.isRejected() || !context.isVerified()) {
+            AuthMetrics.Failure failure = context.isRejected() ? context.getFailure() : AuthMetrics.Failure.MALFORMED;
+            return IntrospectionResultDto.builder()
+                    .active(false)
+                    .reason(failure.name().toLowerCase(Locale.ROOT))
+                    .build();
+        }
+        VerifiedClaims claims = context.getClaims();
+        return IntrospectionResultDto.builder()
+                .active(true)
+                .sub(claims.getSubject())
+                .authorities(claims.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
+                .exp(TimeUnit.MILLISECONDS.toSeconds(claims.getExpiresAtMillis()))
+                .expiresIn(Math.max(0, claims.getRemaining().toSeconds()))
+                .build();
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Too many introspection requests in progress. Please retry shortly.",
+                retryAfterSeconds);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,137 @@
+package com.jwt.demo.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jwt.demo.entities.Authority;
+import com.jwt.demo.entities.User;
+import com.jwt.demo.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * UserCache는 사용자와 권한 정보를 TTL과 크기 제한이 있는 프로세스 내 캐시에 보관합니다.
+ * 반복 로그인(CustomUserDetailsService)과 프로필 조회(UserService)가 매번 데이터베이스를 조회하지 않도록 합니다.
+ * 엔티티 대신 변경할 수 없는 스냅샷을 보관하며, 호출할 때마다 새 객체를 만들어 반환하므로
+ * 인증 후 비밀번호를 지우는(eraseCredentials) 등의 변경이 캐시에 영향을 주지 않습니다.
+ * 가입, 권한 변경, 활성화 상태 변경 시에는 invalidate를 호출해야 합니다.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository; // 캐시 미스 시 사용자 조회
+    private final TransactionTemplate readOnlyTransaction; // 지연 로딩되는 권한까지 한 번에 읽기 위한 읽기 전용 트랜잭션
+    private final Cache<String, CachedUser> users; // 사용자 이름 -> 사용자 스냅샷
+
+    public UserCache(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "jwt.users"); // 적중률, 제거 수 등
+    }
+
+    /**
+     * 사용자 이름으로 사용자 스냅샷을 조회합니다. 캐시에 없으면 데이터베이스에서 사용자와 권한을 읽어 보관합니다.
+     * 존재하지 않는 사용자는 캐시하지 않습니다.
+     * @param username 사용자 이름
+     * @return 사용자 스냅샷
+     */
+    public Optional<CachedUser> get(String username) {
+        return Optional.ofNullable(users.get(username, this::load));
+    }
+
+    /**
+     * 캐시를 거치지 않고 데이터베이스에서 사용자를 다시 읽어, 그 값으로 캐시 항목을 바꿉니다. (저장된 최신 값이 필요한 조회용)
+     * 존재하지 않는 사용자이면 캐시 항목을 제거합니다.
+     * @param username 사용자 이름
+     * @return 데이터베이스에서 읽은 사용자 스냅샷
+     */
+    public Optional<CachedUser> refresh(String username) {
+        CachedUser user = load(username);
+        if (user == null) {
+            users.invalidate(username);
+        } else {
+            users.put(username, user);
+        }
+        return Optional.ofNullable(user);
+    }
+
+    private CachedUser load(String username) {
+        return readOnlyTransaction.execute(status -> userRepository.findOneWithAuthoritiesByUsername(username)
+                .map(CachedUser::of)
+                .orElse(null));
+    }
+
+    /**
+     * 사용자 정보가 바뀌었을 때 캐시 항목을 제거합니다.
+     * 트랜잭션 안에서 호출되면 트랜잭션이 끝난 뒤 한 번 더 제거하여, 그 사이에 커밋 전의 값이 다시 캐시되지 않도록 합니다.
+     * @param username 사용자 이름
+     */
+    public void invalidate(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    users.invalidate(username);
+                }
+            });
+        }
+        users.invalidate(username);
+    }
+
+    /**
+     * 캐시에 보관하는 사용자 정보의 스냅샷입니다.
+     */
+    public record CachedUser(Long userId, String username, String password, String nickname,
+                             boolean activated, List<String> authorityNames) {
+
+        static CachedUser of(User user) {
+            List<String> authorityNames = user.getAuthorities().stream()
+                    .map(Authority::getAuthorityName)
+                    .toList();
+            return new CachedUser(user.getUserId(), user.getUsername(), user.getPassword(), user.getNickname(),
+                    user.isActivated(), authorityNames);
+        }
+
+        /**
+         * 응답 등에 사용할 새 User 객체를 만듭니다. (영속성 컨텍스트와 무관한 객체)
+         */
+        public User toUser() {
+            Set<Authority> authorities = authorityNames.stream()
+                    .map(name -> Authority.builder().authorityName(name).build())
+                    .collect(Collectors.toSet());
+            return User.builder()
+                    .userId(userId)
+                    .username(username)
+                    .password(password)
+                    .nickname(nickname)
+                    .activated(activated)
+                    .authorities(authorities)
+                    .build();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.jwt.demo.service;
 
 import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -10,7 +11,9 @@ import org.springframework.transaction.annotation.Transactional;
 import com.jwt.demo.dto.UserDto;
 import com.jwt.demo.entities.Authority;
 import com.jwt.demo.entities.User;
+import com.jwt.demo.jwt.TokenUserPrincipal;
 import com.jwt.demo.repository.UserRepository;
+import com.jwt.demo.service.UserCache.CachedUser;
 import com.jwt.demo.util.SecurityUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -24,6 +27,7 @@ public class UserService {
 	
     private final UserRepository userRepository; // 사용자 정보를 저장 및 조회하는 리포지토리
     private final PasswordEncoder passwordEncoder; // 비밀번호 암호화에 사용하는 인코더
+    private final UserCache userCache; // 사용자 및 권한 정보 캐시
 
     // 회원가입 메서드
     @Transactional
@@ -47,19 +51,51 @@ public class UserService {
                 .activated(true) // 사용자 활성화 상태 설정
                 .build();
 
-        return userRepository.save(user); // 생성된 유저를 저장하고 반환
+        User saved = userRepository.save(user); // 생성된 유저를 저장
+        userCache.invalidate(saved.getUsername()); // 커밋 후 캐시 항목 제거
+        return saved; // 저장된 유저를 반환
     }
 
-    // 특정 사용자 이름을 가진 사용자와 권한 정보 조회 메서드
-    @Transactional(readOnly = true)
+    // 특정 사용자 이름을 가진 사용자와 권한 정보 조회 메서드 (캐시 미스 시에만 데이터베이스 조회)
     public Optional<User> getUserWithAuthorities(String username) {
-        return userRepository.findOneWithAuthoritiesByUsername(username); // 사용자 이름으로 사용자 및 권한 조회
+        return userCache.get(username).map(CachedUser::toUser); // 사용자 이름으로 사용자 및 권한 조회
     }
 
-    // 현재 로그인한 사용자의 사용자 정보 및 권한 조회 메서드
-    @Transactional(readOnly = true)
+    // 현재 로그인한 사용자의 사용자 정보 및 권한 조회 메서드 (캐시 미스 시에만 데이터베이스 조회)
     public Optional<User> getMyUserWithAuthorities() {
         return SecurityUtil.getCurrentUsername() // 현재 인증된 사용자 이름 가져오기
-                .flatMap(userRepository::findOneWithAuthoritiesByUsername); // 사용자 이름으로 사용자 정보와 권한 조회
+                .flatMap(userCache::get) // 사용자 이름으로 사용자 정보와 권한 조회
+                .map(CachedUser::toUser);
+    }
+
+    // 현재 로그인한 사용자의 사용자 정보 및 권한 조회 메서드
+    // fresh가 true이면 캐시를 거치지 않고 데이터베이스에서 읽음 (읽은 값으로 캐시 항목도 교체)
+    // fresh가 false이고 토큰에 사용자 ID(uid 클레임)가 있으면 검증된 토큰의 클레임으로 응답 (캐시와 데이터베이스 조회 없음)
+    // fresh가 false이고 uid 클레임이 없는 토큰이면 getMyUserWithAuthorities로 조회
+    public Optional<User> getMyUser(boolean fresh) {
+        if (fresh) {
+            return SecurityUtil.getCurrentUsername()
+                    .flatMap(userCache::refresh)
+                    .map(CachedUser::toUser);
+        }
+        Optional<TokenUserPrincipal> principal = SecurityUtil.getCurrentTokenUser()
+                .filter(TokenUserPrincipal::hasIdentityClaims);
+        if (principal.isPresent()) {
+            return principal.map(UserService::toUser);
+        }
+        return getMyUserWithAuthorities();
+    }
+
+    // 인증 주체로부터 응답용 User 객체 생성 (토큰이 유효하므로 활성화된 사용자로 봄)
+    private static User toUser(TokenUserPrincipal principal) {
+        return User.builder()
+                .userId(principal.getUserId())
+                .username(principal.getUsername())
+                .nickname(principal.getNickname())
+                .activated(true)
+                .authorities(principal.getAuthorities().stream()
+                        .map(authority -> Authority.builder().authorityName(authority.getAuthority()).build())
+                        .collect(Collectors.toSet()))
+                .build();
     }
 }
@@ -1,31 +1,62 @@
 package com.jwt.demo.util;
 
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
 /**
- * BlacklistCleanupScheduler 클래스는 스케줄링을 통해 매일 자정에 
- * 만료된 JWT 토큰을 블랙리스트에서 제거하는 작업을 수행하는 컴포넌트입니다.
+ * BlacklistCleanupScheduler 클래스는 만료된 JWT 토큰을 블랙리스트에서 제거하는 작업을 수행하는 컴포넌트입니다.
+ * 하루에 한 번 전체를 지우는 대신 짧은 주기로 계속 실행하며, 만료된 행을 expired_at 인덱스 순서의 작은 청크로 나누어 삭제합니다.
+ * jwt.blacklist.purge.mode=partition 이면 일 단위 파티션 테이블에서 만료된 날짜의 파티션을 통째로 DROP 합니다.
  */
+@Slf4j
 @Component
 public class BlacklistCleanupScheduler {
 
-    private final JdbcTemplate jdbcTemplate; // 데이터베이스 작업을 위한 JdbcTemplate
+    // ORDER BY가 없으면 LIMIT으로 지울 행이 옵티마이저의 선택(예: 기본키 순서 전체 스캔)에 따라 달라지므로,
+    // idx_jwt_blacklist_expired_at 인덱스 순서로 가장 오래 전에 만료된 행부터 지우도록 명시합니다.
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM jwt_blacklist WHERE expired_at < NOW() ORDER BY expired_at LIMIT ?";
+
+    private final String mode; // chunked: 청크 단위 DELETE, partition: 파티션 DROP
+    private final ChunkedPurge chunkedPurge; // 청크 단위 삭제 도우미
+    private final BlacklistPartitionManager partitionManager; // 파티션 관리 도우미
 
-    // 생성자를 통해 JdbcTemplate을 주입받습니다.
-    public BlacklistCleanupScheduler(JdbcTemplate jdbcTemplate) {
-        this.jdbcTemplate = jdbcTemplate;
+    // 생성자를 통해 JdbcTemplate과 정리 설정을 주입받습니다.
+    public BlacklistCleanupScheduler(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.blacklist.purge.mode:chunked}") String mode,
+            @Value("${jwt.blacklist.purge.chunk-size:1000}") int chunkSize,
+            @Value("${jwt.blacklist.purge.pause-ms:50}") long pauseMillis,
+            @Value("${jwt.blacklist.purge.max-run-ms:30000}") long maxRunMillis,
+            @Value("${jwt.blacklist.purge.partition-days-ahead:3}") int partitionDaysAhead) {
+        this.mode = mode;
+        this.chunkedPurge = new ChunkedPurge("jwt_blacklist", "expired", jdbcTemplate, meterRegistry, chunkSize, pauseMillis, maxRunMillis);
+        this.partitionManager = new BlacklistPartitionManager(jdbcTemplate, meterRegistry, partitionDaysAhead);
     }
 
     /**
-     * 매일 자정에 실행되어, 만료된 토큰들을 블랙리스트 테이블에서 삭제합니다.
-     * cron 표현식: "0 0 0 * * *"는 매일 자정 0시에 작업을 수행하도록 설정합니다.
+     * interval-ms 주기로 실행되어, 만료된 토큰들을 블랙리스트 테이블에서 삭제합니다.
+     * 이전 실행이 끝난 뒤부터 간격을 재므로 실행이 겹치지 않습니다.
      */
-    @Scheduled(cron = "0 0 0 * * *")
+    @Scheduled(fixedDelayString = "${jwt.blacklist.purge.interval-ms:60000}")
     public void removeExpiredTokens() {
-        // 만료 시간이 현재 시간보다 이전인 토큰을 삭제하는 SQL 쿼리
-        String sql = "DELETE FROM jwt_blacklist WHERE expired_at < NOW()";
-        jdbcTemplate.update(sql); // SQL 쿼리를 실행하여 만료된 토큰을 삭제
+        try {
+            if ("partition".equals(mode)) {
+                partitionManager.maintain(LocalDate.now()); // 만료된 날짜의 파티션을 DROP 하고 앞으로 쓸 파티션을 생성
+            } else {
+                chunkedPurge.run(DELETE_EXPIRED_SQL); // 만료 시간이 현재 시간보다 이전인 토큰을 청크 단위로 삭제
+            }
+        } catch (DataAccessException e) {
+            log.warn("블랙리스트 정리 작업에 실패했습니다: {}", e.getMessage());
+        }
     }
 }
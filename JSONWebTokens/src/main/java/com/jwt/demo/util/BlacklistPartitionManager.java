@@ -0,0 +1,73 @@
+package com.jwt.demo.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BlacklistPartitionManager는 일 단위로 파티션된 jwt_blacklist(db/jwt_blacklist_partitioned.sql)를 관리합니다.
+ * 파티션 pYYYYMMDD에는 그날 만료되는 토큰이 들어가며, 만료된 날짜의 파티션은 행 단위 DELETE 대신 통째로 DROP 합니다.
+ * 미래 날짜의 파티션은 pmax(MAXVALUE) 파티션을 나누어 미리 만들어 둡니다.
+ */
+@Slf4j
+public class BlacklistPartitionManager {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final String LIST_SQL = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'jwt_blacklist' AND PARTITION_NAME IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate; // 데이터베이스 작업을 위한 JdbcTemplate
+    private final int daysAhead; // 미리 만들어 둘 미래 파티션 일수
+    private final Counter droppedCounter; // DROP한 파티션 수
+
+    public BlacklistPartitionManager(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, int daysAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.daysAhead = daysAhead;
+        this.droppedCounter = Counter.builder("jwt.purge.partitions.dropped")
+                .description("만료되어 DROP한 jwt_blacklist 파티션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료된 날짜의 파티션을 DROP 하고, 앞으로 사용할 파티션을 미리 만듭니다.
+     * @param today 오늘 날짜 (토큰 만료 시각과 같은 시간대 기준)
+     */
+    public void maintain(LocalDate today) {
+        TreeSet<LocalDate> days = new TreeSet<>();
+        for (String name : jdbcTemplate.queryForList(LIST_SQL, String.class)) {
+            if (name.matches("p\\d{8}")) { // pmax 등 날짜 파티션이 아닌 것은 제외
+                days.add(LocalDate.parse(name, PARTITION_NAME));
+            }
+        }
+
+        // 오늘 이전 날짜의 파티션은 모든 행이 이미 만료되었으므로 통째로 삭제
+        List<String> expired = new ArrayList<>();
+        for (LocalDate day : days.headSet(today, false)) {
+            expired.add(PARTITION_NAME.format(day));
+        }
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE jwt_blacklist DROP PARTITION " + String.join(", ", expired));
+            droppedCounter.increment(expired.size());
+            log.info("만료된 jwt_blacklist 파티션을 삭제했습니다: {}", expired);
+        }
+
+        // RANGE 파티션은 마지막 파티션 뒤에만 추가할 수 있으므로, 가장 늦은 파티션 다음 날부터 만듭니다.
+        LocalDate next = days.isEmpty() ? today : days.last().plusDays(1);
+        if (next.isBefore(today)) {
+            next = today;
+        }
+        for (LocalDate day = next; !day.isAfter(today.plusDays(daysAhead)); day = day.plusDays(1)) {
+            jdbcTemplate.execute("ALTER TABLE jwt_blacklist REORGANIZE PARTITION pmax INTO ("
+                    + "PARTITION " + PARTITION_NAME.format(day) + " VALUES LESS THAN ('" + day.plusDays(1) + " 00:00:00'), "
+                    + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        }
+    }
+}
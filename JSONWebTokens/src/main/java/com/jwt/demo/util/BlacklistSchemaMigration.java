@@ -0,0 +1,66 @@
+package com.jwt.demo.util;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BlacklistSchemaMigration은 seq/created_at 컬럼이 생기기 전에 만들어진 jwt_blacklist에 두 컬럼을 추가합니다.
+ * schema.sql의 CREATE TABLE IF NOT EXISTS는 이미 있는 테이블을 바꾸지 않고, MySQL은 ADD COLUMN IF NOT EXISTS를 지원하지 않으므로
+ * 시작 시(schema.sql 실행 후) 컬럼이 있는지 확인하여 없을 때만 ALTER TABLE을 실행합니다.
+ * 기존 행은 ALTER TABLE이 채웁니다. (seq는 AUTO_INCREMENT로 번호를 매기고, created_at은 마이그레이션 시각)
+ */
+@Slf4j
+@Component
+public class BlacklistSchemaMigration implements InitializingBean {
+
+    private static final String TABLE = "jwt_blacklist";
+
+    private static final String ADD_CREATED_AT_SQL =
+            "ALTER TABLE jwt_blacklist ADD COLUMN created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)";
+    // AUTO_INCREMENT 컬럼은 키에 포함되어야 하므로 같은 문장에서 유니크 키로 선언합니다.
+    private static final String ADD_SEQ_SQL =
+            "ALTER TABLE jwt_blacklist ADD COLUMN seq BIGINT NOT NULL AUTO_INCREMENT UNIQUE";
+
+    private final JdbcTemplate jdbcTemplate; // 데이터베이스 작업을 위한 JdbcTemplate
+
+    public BlacklistSchemaMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        migrate();
+    }
+
+    /**
+     * 없는 컬럼만 추가합니다. 여러 번 실행해도 결과가 같습니다.
+     */
+    public void migrate() {
+        if (!hasColumn("created_at")) {
+            jdbcTemplate.execute(ADD_CREATED_AT_SQL);
+            log.info("jwt_blacklist에 created_at 컬럼을 추가했습니다.");
+        }
+        if (!hasColumn("seq")) {
+            jdbcTemplate.execute(ADD_SEQ_SQL);
+            log.info("jwt_blacklist에 seq 컬럼을 추가하고 기존 행에 번호를 매겼습니다.");
+        }
+    }
+
+    private boolean hasColumn(String column) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upper = metaData.storesUpperCaseIdentifiers(); // H2 기본 설정은 식별자를 대문자로 저장
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null,
+                    upper ? TABLE.toUpperCase() : TABLE, upper ? column.toUpperCase() : column)) {
+                return columns.next();
+            }
+        }));
+    }
+}
@@ -0,0 +1,94 @@
+package com.jwt.demo.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BloomFilter는 TokenDigest 집합에 대한 스레드 안전한 블룸 필터입니다.
+ * mightContain이 false를 반환하면 해당 다이제스트는 확실히 집합에 없으므로, I/O 없이 "폐기되지 않음"을 판단할 수 있습니다.
+ * 다이제스트 자체가 균일한 해시이므로 상위/하위 64비트를 이용한 이중 해싱으로 k개의 비트 위치를 계산합니다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words; // 비트 배열 (64비트 단위)
+    private final long bitSize; // 전체 비트 수
+    private final int hashFunctions; // 해시 함수 개수 (k)
+    private final LongAdder setBits = new LongAdder(); // 1로 설정된 비트 수
+    private final LongAdder insertions = new LongAdder(); // 추가된 항목 수 (중복 포함)
+
+    /**
+     * 예상 항목 수와 목표 오탐률로 비트 수와 해시 함수 개수를 계산하여 필터를 생성합니다.
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveProbability 목표 오탐률 (0과 1 사이)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("블룸 필터 설정이 올바르지 않습니다.");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 다이제스트를 필터에 추가합니다.
+     */
+    public void put(TokenDigest digest) {
+        long combined = digest.getHi();
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(Math.floorMod(combined, bitSize));
+            combined += digest.getLo();
+        }
+        insertions.increment();
+    }
+
+    /**
+     * 다이제스트가 필터에 포함되어 있을 가능성이 있는지 확인합니다.
+     * @return false이면 확실히 포함되어 있지 않음, true이면 포함되어 있을 수 있음
+     */
+    public boolean mightContain(TokenDigest digest) {
+        long combined = digest.getHi();
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Math.floorMod(combined, bitSize);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+            combined += digest.getLo();
+        }
+        return true;
+    }
+
+    private void setBit(long index) {
+        int wordIndex = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = words.get(wordIndex);
+            if ((current & mask) != 0) {
+                return; // 이미 설정된 비트
+            }
+        } while (!words.compareAndSet(wordIndex, current, current | mask));
+        setBits.increment();
+    }
+
+    /**
+     * 현재 비트 채움 비율로 추정한 오탐률을 반환합니다.
+     */
+    public double expectedFalsePositiveProbability() {
+        return Math.pow((double) setBits.sum() / bitSize, hashFunctions);
+    }
+
+    public long getInsertions() {
+        return insertions.sum();
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+}
@@ -0,0 +1,149 @@
+package com.jwt.demo.util;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ChunkedPurge는 큰 테이블의 오래된 행을 한 번의 무제한 DELETE 대신, 인덱스 순서로 제한된 크기의 청크로 나누어 지우는 도우미입니다.
+ * 청크 사이에 잠시 쉬어 잠금 유지 시간과 undo 로그 증가를 제한하고, 한 번의 실행 시간에도 상한을 둡니다.
+ * 삭제한 행 수, 청크 소요 시간, 최근 실행의 진행 상황과 초당 삭제 행 수, 테이블의 대략적인 행 수를 메트릭으로 노출합니다.
+ * 메트릭은 table과 pass 태그로 구분되므로, 한 테이블에 삭제 조건이 여러 개이면 조건(pass)마다 인스턴스를 따로 만듭니다.
+ */
+@Slf4j
+public class ChunkedPurge {
+
+    // InnoDB 통계 기반의 추정치이므로 COUNT(*)와 달리 테이블을 읽지 않습니다. (information_schema_stats_expiry 주기로 갱신됨)
+    private static final String TABLE_ROWS_SQL = "SELECT TABLE_ROWS FROM information_schema.TABLES "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final String table; // 메트릭 태그로 사용할 테이블 이름
+    private final String pass; // 메트릭 태그로 사용할 삭제 조건 이름 (예: expired, rotated)
+    private final JdbcTemplate jdbcTemplate; // 데이터베이스 작업을 위한 JdbcTemplate
+    private final int chunkSize; // 한 번의 DELETE로 지울 최대 행 수
+    private final long pauseMillis; // 청크 사이의 대기 시간
+    private final long maxRunMillis; // 한 번의 실행에 허용하는 최대 시간
+
+    private final Counter rowsCounter; // 누적 삭제 행 수
+    private final Timer chunkTimer; // 청크 하나를 지우는 데 걸린 시간
+    private final Timer runTimer; // 한 번의 정리 실행 전체에 걸린 시간
+    private final AtomicLong progressRows = new AtomicLong(); // 현재(또는 마지막) 실행에서 삭제한 행 수
+    private final AtomicLong rowsPerSecond = new AtomicLong(); // 마지막 실행의 초당 삭제 행 수
+    private final AtomicLong tableRows = new AtomicLong(-1); // 테이블의 대략적인 행 수 (-1이면 알 수 없음)
+
+    public ChunkedPurge(String table, String pass, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                        int chunkSize, long pauseMillis, long maxRunMillis) {
+        this.table = table;
+        this.pass = pass;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.maxRunMillis = maxRunMillis;
+
+        this.rowsCounter = Counter.builder("jwt.purge.rows")
+                .description("정리 작업으로 삭제된 행 수")
+                .tag("table", table)
+                .tag("pass", pass)
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("jwt.purge.chunk")
+                .description("청크 하나를 삭제하는 데 걸린 시간")
+                .tag("table", table)
+                .tag("pass", pass)
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("jwt.purge.run")
+                .description("정리 실행 한 번(모든 청크와 대기 시간)에 걸린 시간")
+                .tag("table", table)
+                .tag("pass", pass)
+                .register(meterRegistry);
+        Gauge.builder("jwt.purge.progress.rows", progressRows, AtomicLong::get)
+                .description("현재 또는 마지막 정리 실행에서 삭제한 행 수")
+                .tag("table", table)
+                .tag("pass", pass)
+                .register(meterRegistry);
+        Gauge.builder("jwt.purge.rows_per_second", rowsPerSecond, AtomicLong::get)
+                .description("마지막 정리 실행의 초당 삭제 행 수")
+                .tag("table", table)
+                .tag("pass", pass)
+                .register(meterRegistry);
+        Gauge.builder("jwt.purge.table.rows", tableRows, AtomicLong::get)
+                .description("정리 대상 테이블의 대략적인 행 수")
+                .tag("table", table)
+                .tag("pass", pass)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 삭제할 행이 없거나 최대 실행 시간에 도달할 때까지 청크 단위로 삭제합니다.
+     * @param deleteSql 마지막 파라미터로 LIMIT 값을 받는 DELETE 문 (예: "DELETE FROM t WHERE expired_at < NOW() LIMIT ?")
+     * @param args LIMIT 앞의 파라미터
+     * @return 이번 실행에서 삭제한 행 수
+     */
+    public long run(String deleteSql, Object... args) {
+        Object[] params = Arrays.copyOf(args, args.length + 1);
+        params[args.length] = chunkSize;
+
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(maxRunMillis);
+        long total = 0;
+        progressRows.set(0);
+
+        while (true) {
+            long chunkStarted = System.nanoTime();
+            int deleted = jdbcTemplate.update(deleteSql, params);
+            chunkTimer.record(System.nanoTime() - chunkStarted, TimeUnit.NANOSECONDS);
+            rowsCounter.increment(deleted);
+            total = progressRows.addAndGet(deleted);
+
+            if (deleted < chunkSize || System.nanoTime() > deadline) {
+                break; // 더 지울 행이 없거나 이번 실행 시간을 다 쓴 경우 다음 실행으로 넘김
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        rowsPerSecond.set(total * 1000 / elapsedMillis);
+        if (total > 0) {
+            log.info("{} 정리 완료: pass={}, rows={}, elapsedMs={}", table, pass, total, elapsedMillis);
+        }
+        updateTableRows();
+        return total;
+    }
+
+    private void updateTableRows() {
+        try {
+            Long rows = jdbcTemplate.query(TABLE_ROWS_SQL, rs -> rs.next() ? rs.getLong(1) : null, table);
+            if (rows != null) {
+                tableRows.set(rows);
+            }
+        } catch (DataAccessException e) {
+            // 통계 테이블을 지원하지 않는 데이터베이스에서는 행 수 메트릭을 생략합니다.
+            log.debug("{} 행 수를 조회하지 못했습니다: {}", table, e.getMessage());
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.jwt.demo.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * ExpireAtExpiry는 Caffeine 캐시 항목을 값에 기록된 절대 만료 시각(epoch 밀리초)에 제거하는 Expiry 구현입니다.
+ * 토큰처럼 항목마다 만료 시각이 다른 경우에 사용하며, 조회는 수명에 영향을 주지 않습니다.
+ */
+public class ExpireAtExpiry<K, V> implements Expiry<K, V> {
+
+    private final ToLongFunction<V> expiresAtMillis; // 값에서 만료 시각을 꺼내는 함수
+
+    public ExpireAtExpiry(ToLongFunction<V> expiresAtMillis) {
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        return remainingNanos(value);
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return remainingNanos(value);
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    private long remainingNanos(V value) {
+        long remainingMillis = expiresAtMillis.applyAsLong(value) - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+    }
+}
@@ -0,0 +1,59 @@
+package com.jwt.demo.util;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * RefreshTokenCleanupScheduler 클래스는 더 이상 사용할 수 없는 리프레시 토큰을 refresh_token 테이블에서 제거하는 컴포넌트입니다.
+ * 만료 시간이 지난 토큰과, 교체(사용)된 뒤 보존 기간이 지난 토큰을 BlacklistCleanupScheduler와 같은 방식의 작은 청크로 나누어 삭제합니다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenCleanupScheduler {
+
+    // ORDER BY로 idx_refresh_token_expiry_date, idx_refresh_token_rotated_at 인덱스 순서(가장 오래된 행부터)로 삭제하도록 명시합니다.
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM refresh_token WHERE expiry_date < NOW() ORDER BY expiry_date LIMIT ?";
+    private static final String DELETE_ROTATED_SQL =
+            "DELETE FROM refresh_token WHERE rotated_at < ? ORDER BY rotated_at LIMIT ?";
+
+    private final ChunkedPurge expiredPurge; // 만료된 토큰 청크 단위 삭제 도우미 (pass=expired 메트릭)
+    private final ChunkedPurge rotatedPurge; // 교체된 토큰 청크 단위 삭제 도우미 (pass=rotated 메트릭)
+    private final long rotatedRetentionMillis; // 교체된 토큰을 남겨 두는 기간
+
+    // 생성자를 통해 JdbcTemplate과 정리 설정을 주입받습니다.
+    public RefreshTokenCleanupScheduler(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh-token.purge.rotated-retention-ms:3600000}") long rotatedRetentionMillis,
+            @Value("${jwt.refresh-token.purge.chunk-size:1000}") int chunkSize,
+            @Value("${jwt.refresh-token.purge.pause-ms:50}") long pauseMillis,
+            @Value("${jwt.refresh-token.purge.max-run-ms:30000}") long maxRunMillis) {
+        this.rotatedRetentionMillis = rotatedRetentionMillis;
+        this.expiredPurge = new ChunkedPurge("refresh_token", "expired", jdbcTemplate, meterRegistry, chunkSize, pauseMillis, maxRunMillis);
+        this.rotatedPurge = new ChunkedPurge("refresh_token", "rotated", jdbcTemplate, meterRegistry, chunkSize, pauseMillis, maxRunMillis);
+    }
+
+    /**
+     * interval-ms 주기로 실행되어, 만료되었거나 교체된 뒤 보존 기간이 지난 리프레시 토큰을 삭제합니다.
+     * 이전 실행이 끝난 뒤부터 간격을 재므로 실행이 겹치지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge.interval-ms:60000}")
+    public void removeUnusableTokens() {
+        try {
+            expiredPurge.run(DELETE_EXPIRED_SQL); // 만료 시간이 지난 토큰 삭제
+            LocalDateTime rotatedBefore = LocalDateTime.now().minusNanos(rotatedRetentionMillis * 1_000_000);
+            rotatedPurge.run(DELETE_ROTATED_SQL, rotatedBefore); // 교체된 뒤 보존 기간이 지난 토큰 삭제
+        } catch (DataAccessException e) {
+            log.warn("리프레시 토큰 정리 작업에 실패했습니다: {}", e.getMessage());
+        }
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.jwt.demo.jwt.TokenUserPrincipal;
+
 // SecurityUtil 클래스는 현재 로그인된 사용자의 사용자 이름을 추출하는 데 사용됩니다. 
 // 일반적으로 사용자 정보가 필요하거나, 현재 인증된 사용자 이름을 가져와야 할 때 호출됩니다.
 public class SecurityUtil {
@@ -42,4 +44,13 @@ public class SecurityUtil {
         // 사용자 이름을 Optional로 반환 (null일 경우 빈 Optional 반환)
         return Optional.ofNullable(username);
     }
+
+    // 현재 인증된 사용자의 인증 주체가 TokenUserPrincipal(토큰 클레임 또는 로그인 시 조회한 사용자 정보)이면 반환하는 메서드
+    public static Optional<TokenUserPrincipal> getCurrentTokenUser() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof TokenUserPrincipal principal) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
 }
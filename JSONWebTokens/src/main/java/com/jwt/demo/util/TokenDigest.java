@@ -0,0 +1,116 @@
+package com.jwt.demo.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * TokenDigest는 토큰(또는 토큰 식별자) 문자열을 SHA-256으로 해시한 뒤 앞 128비트만 두 개의 long 값으로 보관하는 고정 길이 키입니다.
+ * 수백 바이트짜리 JWT 문자열 대신 캐시나 블랙리스트의 키로 사용하여 메모리 사용량과 비교 비용을 줄입니다.
+ */
+public final class TokenDigest {
+
+    public static final int LENGTH = 16; // 다이제스트 길이 (바이트)
+
+    // MessageDigest는 스레드 안전하지 않으므로 스레드마다 하나씩 재사용합니다.
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final long hi; // 다이제스트 상위 64비트
+    private final long lo; // 다이제스트 하위 64비트
+
+    private TokenDigest(long hi, long lo) {
+        this.hi = hi;
+        this.lo = lo;
+    }
+
+    /**
+     * 주어진 문자열의 다이제스트를 계산합니다.
+     * @param value 토큰 또는 토큰 식별자 문자열
+     * @return 계산된 TokenDigest
+     */
+    public static TokenDigest of(String value) {
+        byte[] hash = SHA_256.get().digest(value.getBytes(StandardCharsets.UTF_8));
+        return new TokenDigest(readLong(hash, 0), readLong(hash, 8));
+    }
+
+    /**
+     * 데이터베이스 등에서 읽어온 16바이트 값으로 TokenDigest를 복원합니다.
+     * @param bytes 16바이트 다이제스트
+     * @return 복원된 TokenDigest
+     */
+    public static TokenDigest fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != LENGTH) {
+            throw new IllegalArgumentException("다이제스트 길이는 " + LENGTH + "바이트여야 합니다.");
+        }
+        return new TokenDigest(readLong(bytes, 0), readLong(bytes, 8));
+    }
+
+    /**
+     * 다이제스트를 16바이트 배열로 반환합니다. (BINARY(16) 컬럼 저장용)
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[LENGTH];
+        writeLong(bytes, 0, hi);
+        writeLong(bytes, 8, lo);
+        return bytes;
+    }
+
+    /**
+     * 다이제스트를 UUID로 반환합니다. (JPA에서 BINARY(16) 기본키로 매핑하기 위한 용도)
+     */
+    public UUID toUuid() {
+        return new UUID(hi, lo);
+    }
+
+    public long getHi() {
+        return hi;
+    }
+
+    public long getLo() {
+        return lo;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFFL);
+        }
+        return value;
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TokenDigest other)) {
+            return false;
+        }
+        return hi == other.hi && lo == other.lo;
+    }
+
+    @Override
+    public int hashCode() {
+        // SHA-256 결과는 이미 고르게 분포되어 있으므로 하위 비트를 그대로 사용합니다.
+        return (int) lo;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", hi, lo);
+    }
+}
@@ -1,7 +1,8 @@
 insert into users (USER_ID, USERNAME, PASSWORD, NICKNAME, ACTIVATED) values (1, 'admin', '$2a$10$6FFVprUVFEBu6/5M/T0p3OJBXD3X1YAc65ut/bXi2U9TYbVAsEUu2', 'admin', 1);
 
-insert into AUTHORITY (AUTHORITY_NAME) values ('ROLE_USER');
-insert into AUTHORITY (AUTHORITY_NAME) values ('ROLE_ADMIN');
+insert into AUTHORITY (AUTHORITY_NAME, AUTHORITY_BIT) values ('ROLE_USER', 0);
+insert into AUTHORITY (AUTHORITY_NAME, AUTHORITY_BIT) values ('ROLE_ADMIN', 1);
+insert into AUTHORITY (AUTHORITY_NAME, AUTHORITY_BIT) values ('ROLE_SERVICE', 2);
 
 insert into USER_AUTHORITY (USER_ID, AUTHORITY_NAME) values (1, 'ROLE_USER');
 insert into USER_AUTHORITY (USER_ID, AUTHORITY_NAME) values (1, 'ROLE_ADMIN');
\ No newline at end of file
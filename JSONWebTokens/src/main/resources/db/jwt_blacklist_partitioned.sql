@@ -0,0 +1,17 @@
+-- 일 단위로 파티션된 JWT 블랙리스트 테이블 (선택 사항)
+-- schema.sql의 jwt_blacklist 대신 이 정의로 테이블을 만들고 jwt.blacklist.purge.mode=partition 으로 설정하면,
+-- 만료된 날짜의 파티션(pYYYYMMDD)을 행 단위 DELETE 없이 통째로 DROP 합니다.
+-- MySQL 파티션 테이블은 모든 유니크 키에 파티션 컬럼이 포함되어야 하므로 기본키와 seq 유니크 키에 expired_at을 포함합니다.
+-- 날짜 파티션은 BlacklistCleanupScheduler가 pmax를 나누어 미리 만들어 둡니다.
+CREATE TABLE IF NOT EXISTS jwt_blacklist (
+    jti_digest BINARY(16) NOT NULL,
+    expired_at DATETIME NOT NULL,
+    seq BIGINT NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (jti_digest, expired_at),
+    UNIQUE KEY uk_jwt_blacklist_seq (seq, expired_at),
+    INDEX idx_jwt_blacklist_expired_at (expired_at)
+)
+PARTITION BY RANGE COLUMNS (expired_at) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
@@ -0,0 +1,39 @@
+-- JWT 블랙리스트 테이블 (로그아웃된 토큰을 저장)
+-- 토큰 문자열 대신 토큰 식별자(jti)의 SHA-256 앞 16바이트를 기본키로 저장하여, 조회가 좁은 키에 대한 단일 행 조회가 되도록 합니다.
+-- seq는 다른 노드가 새로 추가된 행만 순서대로 읽어 가기 위한 단조 증가 커서이며, created_at은 전파 지연 측정에 사용합니다.
+-- 두 컬럼이 없던 기존 테이블에는 시작 시 BlacklistSchemaMigration이 컬럼을 추가하고 기존 행을 채웁니다.
+CREATE TABLE IF NOT EXISTS jwt_blacklist (
+    jti_digest BINARY(16) NOT NULL,
+    expired_at DATETIME NOT NULL,
+    seq BIGINT NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (jti_digest),
+    UNIQUE KEY uk_jwt_blacklist_seq (seq),
+    INDEX idx_jwt_blacklist_expired_at (expired_at)
+);
+
+-- 사용자별 토큰 세대(epoch) 테이블
+-- 토큰에는 발급 시점의 세대가 ver 클레임으로 기록되며, 세대보다 작은 ver의 토큰은 모두 폐기된 것으로 봅니다.
+-- 한 사용자의 모든 세션을 끝낼 때 토큰마다 블랙리스트에 넣는 대신 이 행의 epoch만 올립니다. (사용자당 한 행)
+-- updated_at은 다른 노드가 변경된 행만 따라 읽어 가기 위한 커서로 사용합니다.
+CREATE TABLE IF NOT EXISTS user_token_epoch (
+    username VARCHAR(50) NOT NULL,
+    epoch BIGINT NOT NULL,
+    updated_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (username),
+    INDEX idx_user_token_epoch_updated_at (updated_at)
+);
+
+-- JWT 서명 키 테이블 (jwt.signing.algorithm=ES256일 때 사용)
+-- 모든 노드가 같은 키로 서명하고 검증하도록 키를 공유합니다. 새 키는 activates_at 전에 미리 만들어 JWKS에 공개하고,
+-- expires_at(그 키로 서명한 가장 긴 토큰이 만료되는 시각)이 지나면 삭제합니다.
+CREATE TABLE IF NOT EXISTS jwt_signing_key (
+    kid VARCHAR(32) NOT NULL,
+    algorithm VARCHAR(10) NOT NULL,
+    private_key VARBINARY(512) NOT NULL, -- PKCS#8을 AES-GCM으로 암호화한 값 (형식 바이트 + IV + 암호문)
+    public_key VARBINARY(256) NOT NULL, -- X.509 SubjectPublicKeyInfo
+    activates_at DATETIME(3) NOT NULL,
+    expires_at DATETIME(3) NOT NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (kid)
+);
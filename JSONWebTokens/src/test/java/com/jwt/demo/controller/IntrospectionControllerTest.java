@@ -0,0 +1,81 @@
+package com.jwt.demo.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.jwt.demo.dto.IntrospectionRequestDto;
+import com.jwt.demo.service.TokenIntrospectionService;
+
+/**
+ * 일괄 토큰 검증 API를 ROLE_SERVICE 권한을 가진 서비스 계정만 호출할 수 있는지 확인하는 테스트입니다.
+ * 메서드 보안을 켠 최소한의 컨텍스트에서 컨트롤러를 직접 호출합니다.
+ */
+class IntrospectionControllerTest {
+
+    private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(MethodSecurityConfig.class);
+    private final IntrospectionController controller = context.getBean(IntrospectionController.class);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Test
+    void userTokenIsForbidden() {
+        authenticate("ROLE_USER");
+        assertThrows(AccessDeniedException.class, () -> controller.introspect(request()));
+
+        authenticate("ROLE_USER", "ROLE_ADMIN");
+        assertThrows(AccessDeniedException.class, () -> controller.introspect(request()));
+    }
+
+    @Test
+    void serviceTokenIsAllowed() {
+        authenticate("ROLE_SERVICE");
+        assertEquals(HttpStatus.OK, controller.introspect(request()).getStatusCode());
+    }
+
+    private static void authenticate(String... authorities) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "caller", "", AuthorityUtils.createAuthorityList(authorities)));
+    }
+
+    private static IntrospectionRequestDto request() {
+        return IntrospectionRequestDto.builder().tokens(List.of("eyJ...")).build();
+    }
+
+    @Configuration
+    @EnableMethodSecurity
+    static class MethodSecurityConfig {
+
+        @Bean
+        TokenIntrospectionService tokenIntrospectionService() {
+            TokenIntrospectionService service = mock(TokenIntrospectionService.class);
+            when(service.getMaxTokens()).thenReturn(100);
+            when(service.introspect(List.of("eyJ..."))).thenReturn(List.of());
+            return service;
+        }
+
+        @Bean
+        IntrospectionController introspectionController(TokenIntrospectionService tokenIntrospectionService) {
+            return new IntrospectionController(tokenIntrospectionService);
+        }
+    }
+}
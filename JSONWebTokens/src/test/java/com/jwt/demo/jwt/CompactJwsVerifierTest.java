@@ -0,0 +1,215 @@
+package com.jwt.demo.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+import com.jwt.demo.jwt.CompactJwsVerifier.Status;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * CompactJwsVerifier와 기준 구현인 jjwt가 같은 토큰에 대해 같은 판단을 내리는지 비교하는 테스트입니다.
+ * 전용 검증기가 UNSUPPORTED를 반환한 토큰은 TokenProvider가 jjwt로 다시 검증하므로 비교에서 제외합니다.
+ */
+class CompactJwsVerifierTest {
+
+    private static final byte[] KEY_BYTES = "compact-jws-verifier-test-key-0123456789-compact-jws-verifier-test-key"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final Key KEY = Keys.hmacShaKeyFor(KEY_BYTES);
+    private static final Key OTHER_KEY = Keys.hmacShaKeyFor(
+            "another-key-for-compact-jws-verifier-tests-0123456789-another-key-000".getBytes(StandardCharsets.UTF_8));
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long EXP_SECONDS = NOW / 1000 + 600;
+
+    private final CompactJwsVerifier verifier = new CompactJwsVerifier(KEY_BYTES);
+
+    @Test
+    void issuedTokensAreVerifiedWithoutFallback() {
+        String stringAuthorities = issued().claim("auth", "ROLE_ADMIN,ROLE_USER").compact();
+        String bitmaskAuthorities = issued().claim("rb", 3L).compact();
+        String identity = issued().claim("rb", 3L).claim("uid", 42L).claim("nick", "관리자").compact();
+
+        for (String token : List.of(stringAuthorities, bitmaskAuthorities, identity)) {
+            CompactJwsVerifier.Result result = verifier.verify(token, NOW);
+            assertEquals(Status.VALID, result.getStatus());
+            assertAgrees(token, NOW);
+        }
+        CompactJwsVerifier.Result result = verifier.verify(bitmaskAuthorities, NOW);
+        assertEquals("admin", result.getSubject());
+        assertEquals(3L, result.getAuthorityBits());
+        assertEquals(EXP_SECONDS * 1000, result.getExpiresAtMillis());
+        assertNull(result.getUserId());
+
+        result = verifier.verify(identity, NOW);
+        assertEquals(42L, result.getUserId());
+        assertEquals("관리자", result.getNickname());
+    }
+
+    @Test
+    void expirationBoundaryMatchesJjwt() {
+        String token = issued().claim("auth", "ROLE_USER").compact();
+        long exp = EXP_SECONDS * 1000;
+
+        assertEquals(Status.VALID, verifier.verify(token, exp).getStatus());
+        assertEquals(Status.EXPIRED, verifier.verify(token, exp + 1).getStatus());
+        assertAgrees(token, exp);
+        assertAgrees(token, exp + 1);
+        assertTrue(reference(token, exp + 1).error instanceof ExpiredJwtException);
+    }
+
+    @Test
+    void wrongKeyIsRejectedByBoth() {
+        String token = Jwts.builder().setSubject("admin").claim("auth", "ROLE_USER")
+                .setExpiration(new Date(EXP_SECONDS * 1000)).signWith(OTHER_KEY, SignatureAlgorithm.HS512).compact();
+
+        assertEquals(Status.INVALID_SIGNATURE, verifier.verify(token, NOW).getStatus());
+        assertTrue(reference(token, NOW).error instanceof SignatureException);
+    }
+
+    @Test
+    void tokensOutsideTheIssuedShapeFallBackToJjwt() {
+        List<String> tokens = List.of(
+                Jwts.builder().setSubject("admin").setExpiration(new Date(EXP_SECONDS * 1000))
+                        .signWith(KEY, SignatureAlgorithm.HS256).compact(), // 다른 알고리즘
+                Jwts.builder().setHeaderParam("typ", "JWT").setSubject("admin").setExpiration(new Date(EXP_SECONDS * 1000))
+                        .signWith(KEY, SignatureAlgorithm.HS512).compact(), // 추가 헤더 필드
+                issued().setNotBefore(new Date(NOW + 60_000)).compact(), // nbf 클레임
+                issued().claim("rb", "3").compact(), // 예상과 다른 클레임 타입
+                issued().claim("uid", "42").compact(),
+                Jwts.builder().setSubject("admin").compact()); // 서명 없음
+
+        for (String token : tokens) {
+            assertEquals(Status.UNSUPPORTED, verifier.verify(token, NOW).getStatus(), token);
+            assertAgrees(token, NOW);
+        }
+    }
+
+    @Test
+    void extraClaimsAndMissingExpiration() {
+        String extra = issued().setIssuedAt(new Date(NOW)).claim("nested", List.of(1, 2, List.of("a")))
+                .claim("auth", "ROLE_USER").compact();
+        assertEquals(Status.VALID, verifier.verify(extra, NOW).getStatus());
+        assertAgrees(extra, NOW);
+
+        String noExpiration = Jwts.builder().setId("id").setSubject("admin").claim("auth", "ROLE_USER")
+                .signWith(KEY, SignatureAlgorithm.HS512).compact();
+        assertEquals(Status.NO_EXPIRATION, verifier.verify(noExpiration, NOW).getStatus());
+        assertAgrees(noExpiration, NOW);
+    }
+
+    @Test
+    void unverifiedExpirationMatchesSignedClaim() {
+        assertEquals(EXP_SECONDS * 1000, CompactJwsVerifier.readUnverifiedExpiration(issued().claim("rb", 3L).compact()));
+        // 서명이 틀려도 exp는 읽히지만, 이 값은 거부에만 사용됨
+        String otherKey = Jwts.builder().setSubject("admin").setExpiration(new Date(EXP_SECONDS * 1000))
+                .signWith(OTHER_KEY, SignatureAlgorithm.HS512).compact();
+        assertEquals(EXP_SECONDS * 1000, CompactJwsVerifier.readUnverifiedExpiration(otherKey));
+
+        String noExpiration = Jwts.builder().setSubject("admin").signWith(KEY, SignatureAlgorithm.HS512).compact();
+        for (String token : List.of(noExpiration, "", "abc", "a.b", "eyJhbGciOiJIUzUxMiJ9.e30.AAAA",
+                "eyJhbGciOiJIUzUxMiJ9.eyJleHAiOiIxIn0.AAAA", "eyJhbGciOiJIUzUxMiJ9.!!!.AAAA")) {
+            assertEquals(-1, CompactJwsVerifier.readUnverifiedExpiration(token), token); // 읽을 수 없으면 서명 검증에 맡김
+        }
+    }
+
+    @Test
+    void malformedInputsAreRejectedByBoth() {
+        for (String token : List.of("", "abc", "a.b", "a.b.c.d", "...", "eyJhbGciOiJIUzUxMiJ9..", "eyJhbGciOiJIUzUxMiJ9.e30.AAAA")) {
+            assertAgrees(token, NOW);
+        }
+    }
+
+    @Test
+    void everySingleCharacterMutationAgreesWithJjwt() {
+        String token = issued().claim("auth", "ROLE_ADMIN,ROLE_USER").compact();
+        char[] replacements = { 'A', 'B', 'Q', 'g', 'z', '0', '9', '-', '_', '.', '=', ' ', '+', '/' };
+
+        int definitive = 0;
+        for (int i = 0; i < token.length(); i++) {
+            for (char replacement : replacements) {
+                if (token.charAt(i) == replacement) {
+                    continue;
+                }
+                String mutated = token.substring(0, i) + replacement + token.substring(i + 1);
+                if (assertAgrees(mutated, NOW)) {
+                    definitive++;
+                }
+            }
+            String removed = token.substring(0, i) + token.substring(i + 1);
+            assertAgrees(removed, NOW);
+        }
+        assertTrue(definitive > 0);
+    }
+
+    private static JwtBuilder issued() {
+        return Jwts.builder()
+                .setId("bFeNRCryWNETdc3hZ8JB7w")
+                .setSubject("admin")
+                .setExpiration(new Date(EXP_SECONDS * 1000))
+                .signWith(KEY, SignatureAlgorithm.HS512);
+    }
+
+    /**
+     * 전용 검증기의 판단이 jjwt와 같은지 확인합니다.
+     * @return 전용 검증기가 직접 판단했으면 true, UNSUPPORTED로 jjwt에 맡겼으면 false
+     */
+    private boolean assertAgrees(String token, long now) {
+        CompactJwsVerifier.Result result = verifier.verify(token, now);
+        if (result.getStatus() == Status.UNSUPPORTED) {
+            return false;
+        }
+        Reference expected = reference(token, now);
+        if (result.getStatus() != Status.VALID) {
+            assertNotEquals(true, expected.accepted(), () -> token + " -> " + result.getStatus());
+            return true;
+        }
+        assertTrue(expected.accepted(), () -> token + " accepted only by the compact verifier: " + expected.error);
+        Claims claims = expected.claims;
+        assertEquals(claims.getId(), result.getTokenId());
+        assertEquals(claims.getSubject(), result.getSubject());
+        assertEquals(Objects.toString(claims.get("auth"), null), result.getAuthorities());
+        assertEquals(claims.get("rb") == null ? null : ((Number) claims.get("rb")).longValue(), result.getAuthorityBits());
+        assertEquals(claims.getExpiration().getTime(), result.getExpiresAtMillis());
+        assertEquals(claims.get("uid") == null ? null : ((Number) claims.get("uid")).longValue(), result.getUserId());
+        assertEquals(claims.get("nick"), result.getNickname());
+        return true;
+    }
+
+    /**
+     * jjwt로 검증한 결과입니다. TokenProvider와 같이 만료 시간이 없는 토큰은 거부한 것으로 봅니다.
+     */
+    private static Reference reference(String token, long now) {
+        try {
+            Claims claims = Jwts.parserBuilder().setSigningKey(KEY).setClock(() -> new Date(now)).build()
+                    .parseClaimsJws(token).getBody();
+            return new Reference(claims, null);
+        } catch (JwtException | IllegalArgumentException e) {
+            return new Reference(null, e);
+        }
+    }
+
+    private record Reference(Claims claims, Exception error) {
+
+        boolean accepted() {
+            return claims != null && claims.getExpiration() != null;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.jwt.demo.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SigningKeyRing이 공개하는 JWK만으로 다른 서비스가 ES256 토큰을 검증할 수 있는지,
+ * 그리고 키 교체(미리 공개, 활성화 순서, 만료, 모르는 kid로 다시 읽기)와 개인 키 암호화를 확인하는 테스트입니다.
+ * 키 목록은 schema.sql로 초기화한 내장 H2 데이터베이스에 저장하고, 시각은 테스트에서 직접 움직이는 가짜 시계를 사용합니다.
+ */
+class SigningKeyRingTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+            "signing-key-ring-test-secret-0123456789-signing-key-ring-test-secret-0123456789".getBytes());
+    private static final long T0 = 1_700_000_000_000L;
+    private static final long INTERVAL_SECONDS = 100; // 키 교체 주기
+    private static final long PUBLISH_AHEAD_SECONDS = 10; // 미리 공개하는 시간
+    private static final long ACCESS_SECONDS = 10;
+    private static final long REFRESH_SECONDS = 30; // 가장 긴 토큰의 유효 시간
+
+    private final AtomicLong clock = new AtomicLong(T0);
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(embeddedDatabase());
+
+    @Test
+    void firstRotationCreatesActiveKeyStoredEncrypted() throws Exception {
+        SigningKeyRing ring = ring(SECRET, clock);
+        ring.afterPropertiesSet();
+
+        SigningKeyRing.SigningKey active = ring.getActiveKey();
+        assertEquals(T0, active.activatesAtMillis());
+        assertEquals(T0 + (INTERVAL_SECONDS + PUBLISH_AHEAD_SECONDS + REFRESH_SECONDS) * 1000, active.expiresAtMillis());
+        assertEquals(active.publicKey(), ring.getVerificationKey(active.kid()));
+
+        byte[] stored = jdbcTemplate.queryForObject("SELECT private_key FROM jwt_signing_key WHERE kid = ?", byte[].class, active.kid());
+        assertEquals(1, stored[0]); // 암호화 형식
+        assertTrue(indexOf(stored, active.privateKey().getEncoded()) < 0, "private key must not be stored in plaintext");
+
+        // 같은 키 암호화 키를 쓰는 다른 노드는 같은 키로 서명하고, 다른 키 암호화 키로는 복호화할 수 없어 서명 키로 고르지 않음
+        SigningKeyRing sameSecret = ring(SECRET, clock);
+        sameSecret.afterPropertiesSet();
+        assertEquals(active.kid(), sameSecret.getActiveKey().kid());
+        assertEquals(active.privateKey(), sameSecret.getActiveKey().privateKey());
+
+        SigningKeyRing otherSecret = ring(Base64.getEncoder().encodeToString(new byte[64]), clock);
+        otherSecret.afterPropertiesSet();
+        assertNotEquals(active.kid(), otherSecret.getActiveKey().kid());
+    }
+
+    @Test
+    void nextKeyIsPublishedAheadThenActivatedAndOldKeyExpires() {
+        SigningKeyRing ring = ring(SECRET, clock);
+        ring.afterPropertiesSet();
+        String first = ring.getActiveKey().kid();
+
+        clock.set(T0 + (INTERVAL_SECONDS - PUBLISH_AHEAD_SECONDS) * 1000 - 1);
+        ring.rotate();
+        assertEquals(1, keyCount(ring)); // 아직 미리 공개할 시각이 아님
+
+        clock.set(T0 + (INTERVAL_SECONDS - PUBLISH_AHEAD_SECONDS) * 1000);
+        ring.rotate();
+        assertEquals(2, keyCount(ring)); // 다음 키를 JWKS에 미리 공개
+        assertEquals(first, ring.getActiveKey().kid()); // 서명은 아직 이전 키로
+        String second = jdbcTemplate.queryForObject("SELECT kid FROM jwt_signing_key WHERE kid <> ?", String.class, first);
+        assertTrue(ring.getJwks().contains(second));
+        assertEquals(new Timestamp(T0 + INTERVAL_SECONDS * 1000), jdbcTemplate.queryForObject(
+                "SELECT activates_at FROM jwt_signing_key WHERE kid = ?", Timestamp.class, second));
+
+        clock.set(T0 + INTERVAL_SECONDS * 1000);
+        ring.rotate();
+        assertEquals(second, ring.getActiveKey().kid()); // 교체 시각에 새 키로 서명
+        assertNotNull(ring.getVerificationKey(first)); // 이전 키로 서명한 토큰은 계속 검증
+
+        clock.set(T0 + (INTERVAL_SECONDS + PUBLISH_AHEAD_SECONDS + REFRESH_SECONDS) * 1000);
+        ring.rotate();
+        assertEquals(1, keyCount(ring)); // 이전 키로 서명한 가장 긴 토큰까지 만료되면 삭제
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM jwt_signing_key WHERE kid = ?", Integer.class, first));
+        clock.addAndGet(1000);
+        assertNull(ring.getVerificationKey(first));
+    }
+
+    @Test
+    void unknownKidReloadsAtMostOncePerSecond() {
+        SigningKeyRing nodeA = ring(SECRET, clock);
+        nodeA.afterPropertiesSet();
+
+        // 다른 노드가 다음 키를 만듦 (노드 B의 시계만 미리 공개할 시각)
+        AtomicLong laterClock = new AtomicLong(T0 + (INTERVAL_SECONDS - PUBLISH_AHEAD_SECONDS) * 1000);
+        SigningKeyRing nodeB = ring(SECRET, laterClock);
+        nodeB.afterPropertiesSet();
+        String next = jdbcTemplate.queryForObject("SELECT kid FROM jwt_signing_key WHERE kid <> ?", String.class,
+                nodeA.getActiveKey().kid());
+
+        clock.addAndGet(999);
+        assertNull(nodeA.getVerificationKey(next)); // 마지막으로 읽은 지 1초가 지나지 않음
+        clock.addAndGet(1);
+        assertNotNull(nodeA.getVerificationKey(next)); // 다시 읽어 찾음
+        assertNull(nodeA.getVerificationKey("unknown"));
+    }
+
+    @Test
+    void plaintextKeyStoredBeforeEncryptionIsEncryptedOnLoad() throws Exception {
+        KeyPair keyPair = generateKeyPair();
+        byte[] plaintext = keyPair.getPrivate().getEncoded();
+        jdbcTemplate.update("INSERT INTO jwt_signing_key (kid, algorithm, private_key, public_key, activates_at, expires_at) "
+                + "VALUES (?, 'ES256', ?, ?, ?, ?)", "legacy", plaintext, keyPair.getPublic().getEncoded(),
+                new Timestamp(T0), new Timestamp(T0 + 3_600_000));
+
+        SigningKeyRing ring = ring(SECRET, clock);
+        ring.afterPropertiesSet();
+
+        assertEquals("legacy", ring.getActiveKey().kid());
+        assertArrayEquals(plaintext, ring.getActiveKey().privateKey().getEncoded());
+        byte[] stored = jdbcTemplate.queryForObject("SELECT private_key FROM jwt_signing_key WHERE kid = 'legacy'", byte[].class);
+        assertEquals(1, stored[0]);
+
+        SigningKeyRing reloaded = ring(SECRET, clock);
+        reloaded.afterPropertiesSet();
+        assertArrayEquals(plaintext, reloaded.getActiveKey().privateKey().getEncoded());
+    }
+
+    @Test
+    void jwkRebuildsPublicKeyThatVerifiesIssuedTokens() throws Exception {
+        for (int i = 0; i < 20; i++) { // 좌표 앞자리가 0인 키(31바이트 이하)도 32바이트로 인코딩되는지 함께 확인
+            KeyPair keyPair = generateKeyPair();
+            Map<String, Object> jwk = SigningKeyRing.toJwk("kid-" + i, (ECPublicKey) keyPair.getPublic());
+
+            assertEquals("EC", jwk.get("kty"));
+            assertEquals("P-256", jwk.get("crv"));
+            assertEquals("ES256", jwk.get("alg"));
+            assertEquals(32, Base64.getUrlDecoder().decode((String) jwk.get("x")).length);
+            assertEquals(32, Base64.getUrlDecoder().decode((String) jwk.get("y")).length);
+
+            String token = Jwts.builder()
+                    .setHeaderParam(JwsHeader.KEY_ID, "kid-" + i)
+                    .setSubject("admin")
+                    .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                    .signWith(keyPair.getPrivate(), SignatureAlgorithm.ES256)
+                    .compact();
+            PublicKey rebuilt = fromJwk(jwk);
+            assertEquals(keyPair.getPublic(), rebuilt);
+            assertEquals("admin", Jwts.parserBuilder().setSigningKey(rebuilt).build().parseClaimsJws(token).getBody().getSubject());
+        }
+    }
+
+    @Test
+    void jwkOfAnotherKeyRejectsToken() throws Exception {
+        KeyPair signer = generateKeyPair();
+        Map<String, Object> otherJwk = SigningKeyRing.toJwk("other", (ECPublicKey) generateKeyPair().getPublic());
+        String token = Jwts.builder()
+                .setSubject("admin")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(signer.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+
+        assertThrows(SignatureException.class,
+                () -> Jwts.parserBuilder().setSigningKey(fromJwk(otherJwk)).build().parseClaimsJws(token));
+    }
+
+    @Test
+    void hs512RingPublishesNoKeys() {
+        SigningKeyRing ring = new SigningKeyRing(null, new SimpleMeterRegistry(), "HS512", 86400, 600, 180, 1800, null, "");
+        ring.afterPropertiesSet();
+
+        assertEquals("{\"keys\":[]}", ring.getJwks());
+        assertNull(ring.getVerificationKey("any"));
+    }
+
+    private SigningKeyRing ring(String secret, AtomicLong clockMillis) {
+        return new SigningKeyRing(jdbcTemplate, new SimpleMeterRegistry(), "ES256", INTERVAL_SECONDS, PUBLISH_AHEAD_SECONDS,
+                ACCESS_SECONDS, REFRESH_SECONDS, secret, "", clockMillis::get);
+    }
+
+    private static int keyCount(SigningKeyRing ring) {
+        return ring.getJwks().split("\"kid\"").length - 1;
+    }
+
+    private static int indexOf(byte[] bytes, byte[] part) {
+        for (int i = 0; i + part.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + part.length, part, 0, part.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static SimpleDriverDataSource embeddedDatabase() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        return dataSource;
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static PublicKey fromJwk(Map<String, Object> jwk) throws Exception {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        ECPoint point = new ECPoint(
+                new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("x"))),
+                new BigInteger(1, Base64.getUrlDecoder().decode((String) jwk.get("y"))));
+        return KeyFactory.getInstance("EC")
+                .generatePublic(new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+    }
+}
@@ -0,0 +1,199 @@
+package com.jwt.demo.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jwt.demo.entities.Authority;
+import com.jwt.demo.repository.AuthorityRepository;
+import com.jwt.demo.security.AuthorityRegistry;
+import com.jwt.demo.service.TokenEpochService;
+import com.jwt.demo.util.TokenDigest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * TokenProvider의 검증 결과 캐시와 거부 캐시, 서명 검증 전의 형태/만료 확인 동작을 확인하는 테스트입니다.
+ * 서명 키 목록은 schema.sql로 초기화한 내장 H2 데이터베이스에 저장하고, 키 목록의 시각은 가짜 시계를 사용합니다.
+ */
+class TokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+            "token-provider-test-secret-0123456789-token-provider-test-secret-0123456789".getBytes());
+    private static final long T0 = 1_700_000_000_000L;
+    private static final long INTERVAL_SECONDS = 100; // 키 교체 주기
+    private static final long PUBLISH_AHEAD_SECONDS = 10; // 미리 공개하는 시간
+
+    private final AtomicLong clock = new AtomicLong(T0);
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(embeddedDatabase());
+    private final AuthorityRegistry authorityRegistry = authorityRegistry();
+
+    @Test
+    void tokenSignedWithKeyAnotherNodeJustCreatedIsNotCachedAsRejected() {
+        SigningKeyRing verifyingRing = ring(clock);
+        verifyingRing.afterPropertiesSet();
+
+        // 다른 노드가 다음 키를 만들고, 교체 시각이 되어 그 키로 서명함
+        AtomicLong issuingClock = new AtomicLong(T0 + (INTERVAL_SECONDS - PUBLISH_AHEAD_SECONDS) * 1000);
+        SigningKeyRing issuingRing = ring(issuingClock);
+        issuingRing.afterPropertiesSet();
+        issuingClock.set(T0 + INTERVAL_SECONDS * 1000);
+        issuingRing.rotate();
+        assertNotEquals(verifyingRing.getActiveKey().kid(), issuingRing.getActiveKey().kid());
+
+        String token = tokenProvider(issuingRing).createToken(authentication(), true);
+        TokenProvider verifier = tokenProvider(verifyingRing);
+        TokenDigest digest = TokenDigest.of(token);
+
+        clock.addAndGet(999); // 다른 요청이 방금 키 목록을 다시 읽어, 이번 요청은 다시 읽지 못함
+        TokenProvider.Verification verification = verifier.verifySignature(token, digest);
+        assertEquals(AuthMetrics.Failure.UNKNOWN_KEY, verification.failure());
+        assertNull(verifier.cachedRejection(digest)); // 거부 캐시에 남지 않음
+
+        clock.addAndGet(1);
+        assertTrue(verifier.verify(token).isPresent()); // 키 목록을 다시 읽은 뒤 바로 검증됨
+    }
+
+    @Test
+    void forgedTokenIsCachedAsRejected() {
+        TokenProvider tokenProvider = tokenProvider(activeRing());
+        String token = tokenProvider.createToken(authentication(), true);
+        String other = tokenProvider.createToken(authentication(), false);
+        String forged = token.substring(0, token.lastIndexOf('.')) + other.substring(other.lastIndexOf('.')); // 다른 토큰의 서명
+        TokenDigest digest = TokenDigest.of(forged);
+
+        assertTrue(tokenProvider.verify(forged).isEmpty());
+        assertEquals(AuthMetrics.Failure.BAD_SIGNATURE, tokenProvider.cachedRejection(digest));
+        assertTrue(tokenProvider.verify(forged).isEmpty()); // 두 번째 요청은 서명 검증 없이 거부
+    }
+
+    @Test
+    void validTokenIsNeverCachedAsRejected() {
+        TokenProvider tokenProvider = tokenProvider(activeRing());
+        String token = tokenProvider.createToken(authentication(), true);
+        TokenDigest digest = TokenDigest.of(token);
+
+        assertFalse(tokenProvider.isPastExpiration(token, digest));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(tokenProvider.verify(token).isPresent());
+            assertNull(tokenProvider.cachedRejection(digest));
+        }
+    }
+
+    @Test
+    void expiredTokenIsRejectedBeforeSignatureVerification() {
+        TokenProvider tokenProvider = tokenProvider(activeRing());
+        String token = withPayload(tokenProvider.createToken(authentication(), true),
+                "{\"sub\":\"admin\",\"exp\":" + (System.currentTimeMillis() / 1000 - 60) + "}");
+        TokenDigest digest = TokenDigest.of(token);
+
+        assertTrue(tokenProvider.isPastExpiration(token, digest)); // 서명이 맞지 않아도 만료로 거부
+        assertEquals(AuthMetrics.Failure.EXPIRED, tokenProvider.cachedRejection(digest));
+    }
+
+    @Test
+    void tokenWithUnreadableExpirationReachesSignatureVerification() {
+        TokenProvider tokenProvider = tokenProvider(activeRing());
+        String issued = tokenProvider.createToken(authentication(), true);
+        for (String payload : List.of("{\"sub\":\"admin\",\"exp\":\"1\"}", "{\"sub\":\"admin\",\"exp\":1.5}",
+                "{\"sub\":\"admin\",\"exp\":-1}", "{\"sub\":\"admin\"}", "[1]")) {
+            String token = withPayload(issued, payload);
+            TokenDigest digest = TokenDigest.of(token);
+
+            assertFalse(tokenProvider.isPastExpiration(token, digest), payload);
+            assertNull(tokenProvider.cachedRejection(digest), payload); // 만료로 거부하지 않음
+
+            TokenProvider.Verification verification = tokenProvider.verifySignature(token, digest);
+            assertNull(verification.claims(), payload);
+            assertNotEquals(AuthMetrics.Failure.EXPIRED, verification.failure(), payload); // 서명 검증에서 판단
+            assertEquals(verification.failure(), tokenProvider.cachedRejection(digest), payload);
+        }
+    }
+
+    @Test
+    void tokenWithoutCompactShapeIsRejectedBeforeCacheLookup() {
+        TokenProvider tokenProvider = tokenProvider(activeRing());
+        String token = tokenProvider.createToken(authentication(), true);
+
+        assertTrue(tokenProvider.hasCompactShape(token));
+        for (String malformed : List.of("", "abc", "a.b", token + ".x", token.replaceFirst("\\.", " ."), token + "=",
+                token.replace('-', '+').replace('_', '/') + "+/", "a.b." + "c".repeat(4096))) {
+            assertFalse(tokenProvider.hasCompactShape(malformed), malformed);
+            assertTrue(tokenProvider.verify(malformed).isEmpty());
+            assertNull(tokenProvider.cachedRejection(TokenDigest.of(malformed))); // 형태만 보고 거부하므로 캐시에 보관하지 않음
+        }
+    }
+
+    private SigningKeyRing activeRing() {
+        SigningKeyRing ring = ring(clock);
+        ring.afterPropertiesSet();
+        return ring;
+    }
+
+    private static String withPayload(String token, String payloadJson) {
+        int firstDot = token.indexOf('.');
+        return token.substring(0, firstDot + 1)
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8))
+                + token.substring(token.lastIndexOf('.'));
+    }
+
+    private SigningKeyRing ring(AtomicLong clockMillis) {
+        return new SigningKeyRing(jdbcTemplate, new SimpleMeterRegistry(), "ES256", INTERVAL_SECONDS, PUBLISH_AHEAD_SECONDS,
+                10, 30, SECRET, "", clockMillis::get);
+    }
+
+    private TokenProvider tokenProvider(SigningKeyRing signingKeyRing) {
+        TokenProvider tokenProvider = new TokenProvider(SECRET, 180, 1800, "string", true, 4096, true);
+        tokenProvider.afterPropertiesSet();
+        ReflectionTestUtils.setField(tokenProvider, "verifiedTokenCache", new VerifiedTokenCache(1000));
+        ReflectionTestUtils.setField(tokenProvider, "rejectedTokenCache", new RejectedTokenCache(new SimpleMeterRegistry(), 1000, 300));
+        ReflectionTestUtils.setField(tokenProvider, "tokenEpochService", mock(TokenEpochService.class)); // 모든 사용자 세대 0
+        ReflectionTestUtils.setField(tokenProvider, "signingKeyRing", signingKeyRing);
+        ReflectionTestUtils.setField(tokenProvider, "authorityRegistry", authorityRegistry);
+        ReflectionTestUtils.setField(tokenProvider, "authMetrics", new AuthMetrics(new SimpleMeterRegistry()));
+        return tokenProvider;
+    }
+
+    private Authentication authentication() {
+        List<GrantedAuthority> authorities = authorityRegistry.parse("ROLE_USER");
+        return new UsernamePasswordAuthenticationToken(
+                new TokenUserPrincipal("admin", "", authorities, 1L, "admin"), "", authorities);
+    }
+
+    private static AuthorityRegistry authorityRegistry() {
+        AuthorityRepository repository = mock(AuthorityRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                Authority.builder().authorityName("ROLE_USER").authorityBit(0).build(),
+                Authority.builder().authorityName("ROLE_ADMIN").authorityBit(1).build()));
+        AuthorityRegistry registry = new AuthorityRegistry(repository);
+        registry.preload();
+        return registry;
+    }
+
+    private static SimpleDriverDataSource embeddedDatabase() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        return dataSource;
+    }
+}
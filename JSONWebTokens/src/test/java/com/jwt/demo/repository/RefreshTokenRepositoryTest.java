@@ -0,0 +1,171 @@
+package com.jwt.demo.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jwt.demo.dto.SessionDto;
+import com.jwt.demo.entities.RefreshToken;
+import com.jwt.demo.service.SessionService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * RefreshTokenRepository의 토큰 사용 처리와 세션 조회/폐기 쿼리가 사용자, 디바이스, 만료 상태, 만료 시각 조건을 지키는지 확인하는 테스트입니다.
+ * 다른 세션 폐기는 SessionService가 현재 세션을 먼저 확인하는지도 함께 확인합니다.
+ * 엔티티 테이블은 Hibernate가 내장 H2 데이터베이스에 만들고, 각 쿼리는 별도 트랜잭션에서 실행합니다.
+ */
+class RefreshTokenRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private final EntityManagerFactory entityManagerFactory = entityManagerFactory();
+    private final TransactionTemplate transaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+    private final RefreshTokenRepository repository = new JpaRepositoryFactory(
+            SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory)).getRepository(RefreshTokenRepository.class);
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void markUsedSucceedsOnlyOnceForSameDevice() {
+        save("token", "admin", NOW.plusDays(1), false);
+
+        assertEquals(0, inTransaction(() -> repository.markUsed(RefreshToken.digestOf("token"), "other-device", NOW)));
+        assertEquals(1, inTransaction(() -> repository.markUsed(RefreshToken.digestOf("token"), "test", NOW)));
+        assertEquals(0, inTransaction(() -> repository.markUsed(RefreshToken.digestOf("token"), "test", NOW))); // 재사용
+    }
+
+    @Test
+    void markUsedRejectsExpiredToken() {
+        save("expired", "admin", NOW.minusMinutes(1), false);
+        save("used", "admin", NOW.plusDays(1), true);
+
+        assertEquals(0, inTransaction(() -> repository.markUsed(RefreshToken.digestOf("expired"), "test", NOW)));
+        assertEquals(0, inTransaction(() -> repository.markUsed(RefreshToken.digestOf("used"), "test", NOW)));
+        assertEquals(0, inTransaction(() -> repository.markUsed(RefreshToken.digestOf("unknown"), "test", NOW)));
+    }
+
+    @Test
+    void listsOnlyActiveSessionsOfUserNewestFirst() {
+        save("older", "admin", NOW.plusDays(1), false);
+        save("newer", "admin", NOW.plusDays(2), false);
+        save("used", "admin", NOW.plusDays(3), true);
+        save("expired", "admin", NOW.minusMinutes(1), false);
+        save("other-user", "user", NOW.plusDays(4), false);
+
+        Slice<SessionDto> first = inTransaction(() -> repository.findActiveByUsername("admin", NOW, PageRequest.of(0, 1)));
+        Slice<SessionDto> second = inTransaction(() -> repository.findActiveByUsername("admin", NOW, PageRequest.of(1, 1)));
+
+        assertEquals(List.of(RefreshToken.digestOf("newer")), first.map(SessionDto::getSessionId).getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(RefreshToken.digestOf("older")), second.map(SessionDto::getSessionId).getContent());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void revokesOneSessionOnlyForItsOwner() {
+        save("session", "admin", NOW.plusDays(1), false);
+
+        assertEquals(0, inTransaction(() -> repository.expireByTokenDigestAndUsername(RefreshToken.digestOf("session"), "user", NOW)));
+        assertEquals(1, inTransaction(() -> repository.expireByTokenDigestAndUsername(RefreshToken.digestOf("session"), "admin", NOW)));
+        assertEquals(0, inTransaction(() -> repository.expireByTokenDigestAndUsername(RefreshToken.digestOf("session"), "admin", NOW)));
+        assertFalse(activeSession("session", "admin"));
+    }
+
+    @Test
+    void revokesOtherSessionsOfUserAndKeepsCurrentOne() {
+        save("current", "admin", NOW.plusDays(1), false);
+        save("laptop", "admin", NOW.plusDays(1), false);
+        save("phone", "admin", NOW.plusDays(1), false);
+        save("other-user", "user", NOW.plusDays(1), false);
+
+        assertEquals(2, inTransaction(() -> repository.expireAllByUsernameExcept("admin", RefreshToken.digestOf("current"), NOW)));
+
+        assertTrue(activeSession("current", "admin"));
+        assertFalse(activeSession("laptop", "admin"));
+        assertFalse(activeSession("phone", "admin"));
+        assertTrue(activeSession("other-user", "user"));
+    }
+
+    @Test
+    void currentSessionMustBeActiveSessionOfUser() {
+        save("current", "admin", NOW.plusDays(1), false);
+        save("used", "admin", NOW.plusDays(1), true);
+        save("expired", "admin", NOW.minusMinutes(1), false);
+        save("other-user", "user", NOW.plusDays(1), false);
+
+        assertTrue(activeSession("current", "admin"));
+        assertFalse(activeSession("used", "admin"));
+        assertFalse(activeSession("expired", "admin"));
+        assertFalse(activeSession("other-user", "admin"));
+        assertFalse(activeSession("garbage", "admin"));
+    }
+
+    @Test
+    void revokeOthersWithInvalidCurrentSessionRevokesNothing() {
+        save("laptop", "admin", NOW.plusDays(1), false);
+        save("expired", "admin", NOW.minusMinutes(1), false);
+        save("other-user", "user", NOW.plusDays(1), false);
+        SessionService sessionService = new SessionService(repository);
+
+        assertEquals(Optional.empty(), inTransaction(() -> sessionService.revokeOtherSessions("admin", "garbage")));
+        assertEquals(Optional.empty(), inTransaction(() -> sessionService.revokeOtherSessions("admin", "expired")));
+        assertEquals(Optional.empty(), inTransaction(() -> sessionService.revokeOtherSessions("admin", "other-user")));
+        assertTrue(activeSession("laptop", "admin"));
+
+        // 유효한 현재 세션이면 나머지 행(만료 시각만 지난 행 포함)을 만료 처리함
+        assertEquals(Optional.of(1), inTransaction(() -> sessionService.revokeOtherSessions("admin", "laptop")));
+        assertTrue(activeSession("laptop", "admin"));
+    }
+
+    private boolean activeSession(String token, String username) {
+        return inTransaction(() -> repository.existsActiveByTokenDigestAndUsername(RefreshToken.digestOf(token), username, NOW));
+    }
+
+    private void save(String token, String username, LocalDateTime expiryDate, boolean expired) {
+        inTransaction(() -> repository.save(RefreshToken.builder()
+                .token(token)
+                .username(username)
+                .expiryDate(expiryDate)
+                .isExpired(expired)
+                .deviceInfo("test")
+                .build()));
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transaction.execute(status -> action.get());
+    }
+
+    private static EntityManagerFactory entityManagerFactory() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+        factory.setPackagesToScan("com.jwt.demo.entities");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create"));
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+}
@@ -0,0 +1,93 @@
+package com.jwt.demo.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.jwt.demo.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PasswordHashingExecutor가 처리 용량을 넘는 요청을 제한 시간까지 붙잡지 않고 바로 거절하는지 확인하는 테스트입니다.
+ * 해시 작업은 정해진 시간만큼 잠드는 작업으로 대신합니다.
+ */
+class PasswordHashingExecutorTest {
+
+    private static final long HASH_MILLIS = 50;
+    private static final long TIMEOUT_MILLIS = 500;
+
+    @Test
+    void admissionLimitFollowsTimeoutAndHashTime() {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(new SimpleMeterRegistry(), 2, 64, TIMEOUT_MILLIS, 1, HASH_MILLIS);
+        try {
+            assertEquals(18, executor.admissionLimit()); // 500 / 50 x 2 - 실행 중 2
+        } finally {
+            executor.destroy();
+        }
+        PasswordHashingExecutor small = new PasswordHashingExecutor(new SimpleMeterRegistry(), 2, 4, TIMEOUT_MILLIS, 1, HASH_MILLIS);
+        try {
+            assertEquals(4, small.admissionLimit()); // queue-capacity가 상한
+        } finally {
+            small.destroy();
+        }
+    }
+
+    @Test
+    void overloadIsRejectedQuicklyWhileAdmittedWorkCompletes() throws Exception {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(new SimpleMeterRegistry(), 1, 64, TIMEOUT_MILLIS, 1, HASH_MILLIS);
+        ExecutorService callers = Executors.newFixedThreadPool(40);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                results.add(callers.submit(() -> {
+                    start.await();
+                    long started = System.nanoTime();
+                    executor.execute(() -> {
+                        sleep(HASH_MILLIS);
+                        return true;
+                    });
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            int rejected = 0;
+            for (Future<Long> result : results) {
+                try {
+                    assertTrue(result.get() <= TIMEOUT_MILLIS + 200, "admitted work must finish within the timeout");
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof ServiceOverloadedException, e.getCause().toString());
+                    rejected++;
+                }
+            }
+            // 제한 시간 안에 끝낼 수 있는 작업(약 500 / 50 = 10개)은 완료되고, 나머지는 거절됨
+            assertTrue(succeeded >= 5, "succeeded=" + succeeded);
+            assertTrue(rejected >= 20, "rejected=" + rejected);
+        } finally {
+            callers.shutdownNow();
+            executor.destroy();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
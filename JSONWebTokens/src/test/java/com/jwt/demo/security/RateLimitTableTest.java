@@ -0,0 +1,106 @@
+package com.jwt.demo.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * RateLimitTable의 GCRA 판단(연속 허용 수, 회복 시간, 키 분리)과 동시 호출 시 허용 수를 확인하는 테스트입니다.
+ * 시각은 테스트에서 직접 움직이는 가짜 시계를 사용합니다.
+ */
+class RateLimitTableTest {
+
+    private static final long INTERVAL = 1_000; // 초당 1건
+    private static final int BURST = 3;
+
+    private final AtomicLong clock = new AtomicLong(1);
+    private final AtomicInteger evictions = new AtomicInteger();
+
+    @Test
+    void allowsBurstThenReportsWaitUntilNextToken() {
+        RateLimitTable table = new RateLimitTable(1024, clock::get, evictions::incrementAndGet);
+
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(0, table.acquire("login:ip:10.0.0.1", INTERVAL, BURST));
+        }
+        assertEquals(INTERVAL, table.acquire("login:ip:10.0.0.1", INTERVAL, BURST));
+
+        clock.addAndGet(400);
+        assertEquals(600, table.acquire("login:ip:10.0.0.1", INTERVAL, BURST)); // 거부된 요청은 한도를 사용하지 않음
+
+        clock.addAndGet(600);
+        assertEquals(0, table.acquire("login:ip:10.0.0.1", INTERVAL, BURST));
+        assertTrue(table.acquire("login:ip:10.0.0.1", INTERVAL, BURST) > 0);
+    }
+
+    @Test
+    void keysDoNotShareLimits() {
+        RateLimitTable table = new RateLimitTable(1024, clock::get, evictions::incrementAndGet);
+
+        for (int i = 0; i < BURST; i++) {
+            table.acquire("login:username:admin", INTERVAL, BURST);
+        }
+        assertTrue(table.acquire("login:username:admin", INTERVAL, BURST) > 0);
+        assertEquals(0, table.acquire("login:username:other", INTERVAL, BURST));
+        assertEquals(0, table.acquire("login:ip:admin", INTERVAL, BURST));
+    }
+
+    @Test
+    void slotPlacementDependsOnPerTableSecret() {
+        RateLimitTable first = new RateLimitTable(1024, clock::get, evictions::incrementAndGet);
+        RateLimitTable second = new RateLimitTable(1024, clock::get, evictions::incrementAndGet);
+
+        // 같은 키라도 테이블(프로세스)마다 해시가 달라서, 밖에서 슬롯 위치를 미리 계산할 수 없음
+        assertEquals(first.hash("login:username:admin"), first.hash("login:username:admin"));
+        assertNotEquals(first.hash("login:username:admin"), second.hash("login:username:admin"));
+    }
+
+    @Test
+    void reusesRecoveredSlotsWhenTableIsSmall() {
+        RateLimitTable table = new RateLimitTable(8, clock::get, evictions::incrementAndGet);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(0, table.acquire("login:ip:10.0.1." + i, INTERVAL, BURST));
+            clock.addAndGet(INTERVAL); // 이전 키들의 한도가 모두 회복된 뒤에 새 키가 들어옴
+        }
+        assertEquals(0, evictions.get());
+    }
+
+    @Test
+    void concurrentCallersNeverExceedBurst() throws InterruptedException {
+        RateLimitTable table = new RateLimitTable(1024, clock::get, evictions::incrementAndGet);
+        int threads = 8;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 100; i++) {
+                    if (table.acquire("refresh:ip:10.0.0.2", INTERVAL, 10) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(10, allowed.get()); // 시계가 멈춰 있으므로 정확히 burst만큼만 허용
+    }
+}
@@ -0,0 +1,158 @@
+package com.jwt.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jwt.demo.controller.RefreshTokenRequest;
+import com.jwt.demo.dto.TokenDto;
+import com.jwt.demo.entities.RefreshToken;
+import com.jwt.demo.jwt.AuthMetrics;
+import com.jwt.demo.jwt.TokenProvider;
+import com.jwt.demo.repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * AuthenticationService.makeNewAccessToken이 같은 리프레시 토큰으로 동시에 들어온 갱신 요청 중 하나만 성공시키는지 확인하는 테스트입니다.
+ * 리프레시 토큰은 Hibernate가 내장 H2 데이터베이스에 만든 테이블에 저장하고, 토큰 생성은 TokenProvider를 흉내 냅니다.
+ */
+class AuthenticationServiceTest {
+
+    private final EntityManagerFactory entityManagerFactory = entityManagerFactory();
+    private final TransactionTemplate transaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+    private final RefreshTokenRepository repository = new JpaRepositoryFactory(
+            SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory)).getRepository(RefreshTokenRepository.class);
+    private final TokenProvider tokenProvider = mock(TokenProvider.class);
+    private final AuthenticationService service = authenticationService();
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void concurrentRefreshWithSameTokenSucceedsOnce() throws Exception {
+        save("refresh-token", LocalDateTime.now().plusDays(1));
+        CountDownLatch bothUpdated = new CountDownLatch(2);
+        when(tokenProvider.createAndPersistRefreshTokenForUser(any(), anyString())).thenAnswer(invocation -> {
+            bothUpdated.countDown();
+            bothUpdated.await(300, TimeUnit.MILLISECONDS); // 먼저 사용 처리한 요청이 커밋하기 전에 다른 요청이 UPDATE에 도달하도록 대기
+            return "new-refresh-token";
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TokenDto>> results = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return transaction.execute(status -> refresh("refresh-token", "device"));
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        int rejected = 0;
+        for (Future<TokenDto> result : results) {
+            try {
+                assertEquals("new-refresh-token", result.get(10, TimeUnit.SECONDS).getRefreshToken());
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, succeeded);
+        assertEquals(1, rejected);
+    }
+
+    @Test
+    void refreshFromAnotherDeviceOrAfterExpiryIsRejected() {
+        save("refresh-token", LocalDateTime.now().plusDays(1));
+        save("expired-token", LocalDateTime.now().minusMinutes(1));
+
+        assertRejected("refresh-token", "other-device");
+        assertRejected("expired-token", "device");
+        assertEquals("new-access-token", transaction.execute(status -> refresh("refresh-token", "device")).getAccessToken()); // 거절된 요청은 토큰을 사용 처리하지 않음
+    }
+
+    private void assertRejected(String refreshToken, String deviceInfo) {
+        assertThrows(IllegalStateException.class, () -> transaction.execute(status -> refresh(refreshToken, deviceInfo)));
+    }
+
+    private TokenDto refresh(String refreshToken, String deviceInfo) {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken(refreshToken);
+        request.setDeviceInfo(deviceInfo);
+        return service.makeNewAccessToken(request, authentication()).orElseThrow();
+    }
+
+    private void save(String token, LocalDateTime expiryDate) {
+        transaction.execute(status -> repository.save(RefreshToken.builder()
+                .token(token)
+                .username("admin")
+                .expiryDate(expiryDate)
+                .isExpired(false)
+                .deviceInfo("device")
+                .build()));
+    }
+
+    private AuthenticationService authenticationService() {
+        when(tokenProvider.createAndPersistRefreshTokenForUser(any(), anyString())).thenReturn("new-refresh-token");
+        when(tokenProvider.createToken(any(), anyBoolean())).thenReturn("new-access-token");
+        AuthenticationService authenticationService = new AuthenticationService(tokenProvider,
+                mock(AuthenticationManagerBuilder.class), new AuthMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(authenticationService, "refreshTokenRepository", repository);
+        return authenticationService;
+    }
+
+    private static Authentication authentication() {
+        return UsernamePasswordAuthenticationToken.authenticated("admin", "", List.of());
+    }
+
+    private static EntityManagerFactory entityManagerFactory() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+        factory.setPackagesToScan("com.jwt.demo.entities");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create"));
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+}
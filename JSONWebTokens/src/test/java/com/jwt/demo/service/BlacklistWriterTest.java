@@ -0,0 +1,154 @@
+package com.jwt.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.jwt.demo.util.TokenDigest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * BlacklistWriter의 write-behind 모드가 저장에 실패한 배치와 종료와 동시에 들어온 항목을 종료 시에 잃어버리지 않는지 확인하는 테스트입니다.
+ * 데이터베이스 장애는 배치 INSERT를 실패시키는 JdbcTemplate으로 흉내 냅니다.
+ */
+class BlacklistWriterTest {
+
+    private static final String FLUSHER_THREAD = "blacklist-write-behind";
+
+    private final DataSource dataSource = embeddedDatabase();
+
+    @Test
+    void failedBatchIsRetriedDuringShutdown() throws Exception {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        BlacklistWriter writer = writer(new FailingJdbcTemplate(dataSource, failing::get), 2000);
+        writeThree(writer);
+        Thread.sleep(150); // 첫 배치 저장이 실패할 때까지
+
+        Thread recover = new Thread(() -> {
+            sleep(200);
+            failing.set(false); // 종료 중에 데이터베이스가 복구됨
+        });
+        recover.start();
+        writer.destroy();
+
+        assertEquals(3, rowCount());
+        assertFalse(writer.isPending(TokenDigest.of("jti-1")));
+    }
+
+    @Test
+    void batchTheFlusherCouldNotSaveIsSavedByDestroy() throws Exception {
+        // 작업 스레드의 저장만 실패시켜, 종료 제한 시간이 지나 작업 스레드가 포기한 배치를 destroy가 저장하는지 확인
+        BlacklistWriter writer = writer(new FailingJdbcTemplate(dataSource,
+                () -> FLUSHER_THREAD.equals(Thread.currentThread().getName())), 200);
+        writeThree(writer);
+        Thread.sleep(150);
+
+        writer.destroy();
+
+        assertEquals(3, rowCount());
+    }
+
+    @Test
+    void writeRacingWithDestroyIsNotLost() throws Exception {
+        BlacklistWriter writer = writer(new JdbcTemplate(dataSource), 2000);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        ReflectionTestUtils.setField(writer, "pending", new ConcurrentHashMap<TokenDigest, Object>() {
+            @Override
+            public Object put(TokenDigest key, Object value) {
+                entered.countDown();
+                awaitQuietly(released); // 실행 중임을 확인한 뒤, 대기 목록과 큐에 넣기 전에 멈춤
+                return super.put(key, value);
+            }
+        });
+
+        Thread request = new Thread(() -> writer.write(TokenDigest.of("jti-late"), LocalDateTime.now().plusMinutes(5)));
+        request.start();
+        entered.await();
+        writer.destroy(); // 작업 스레드가 멈추고 대기 목록을 저장한 뒤
+        released.countDown();
+        request.join();
+
+        assertEquals(1, rowCount());
+        assertFalse(writer.isPending(TokenDigest.of("jti-late")));
+    }
+
+    private static void writeThree(BlacklistWriter writer) {
+        for (int i = 1; i <= 3; i++) {
+            writer.write(TokenDigest.of("jti-" + i), LocalDateTime.now().plusMinutes(5));
+        }
+    }
+
+    private static BlacklistWriter writer(JdbcTemplate jdbcTemplate, long shutdownTimeoutMillis) {
+        BlacklistWriter writer = new BlacklistWriter(jdbcTemplate, new SimpleMeterRegistry(), true, 500, 50, 1000,
+                shutdownTimeoutMillis);
+        writer.afterPropertiesSet();
+        return writer;
+    }
+
+    private int rowCount() {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM jwt_blacklist", Integer.class);
+    }
+
+    private static DataSource embeddedDatabase() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        return dataSource;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 조건이 참인 동안 배치 INSERT를 실패시키는 JdbcTemplate입니다.
+     */
+    private static final class FailingJdbcTemplate extends JdbcTemplate {
+
+        private final BooleanSupplier failing;
+
+        FailingJdbcTemplate(DataSource dataSource, BooleanSupplier failing) {
+            super(dataSource);
+            this.failing = failing;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            if (failing.getAsBoolean()) {
+                throw new DataAccessResourceFailureException("simulated outage");
+            }
+            return super.batchUpdate(sql, batchArgs);
+        }
+    }
+}
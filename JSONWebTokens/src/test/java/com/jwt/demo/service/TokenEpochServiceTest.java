@@ -0,0 +1,69 @@
+package com.jwt.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jwt.demo.repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * TokenEpochService.revokeAll이 올린 세대를 트랜잭션이 커밋된 뒤에만 맵에 반영하는지 확인하는 테스트입니다.
+ */
+class TokenEpochServiceTest {
+
+    private final DataSource dataSource = embeddedDatabase();
+    private final TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    private final TokenEpochService service = new TokenEpochService(new JdbcTemplate(dataSource),
+            mock(RefreshTokenRepository.class), new SimpleMeterRegistry(), 5000);
+
+    @BeforeEach
+    void warmUp() {
+        service.warmUp();
+    }
+
+    @Test
+    void epochIsVisibleOnlyAfterCommit() {
+        transaction.executeWithoutResult(status -> {
+            assertEquals(1, service.revokeAll("admin"));
+            assertEquals(0, service.currentEpoch("admin")); // 커밋 전에는 이전 세대
+        });
+
+        assertEquals(1, service.currentEpoch("admin"));
+        assertTrue(service.isCurrent("admin", 1));
+        assertFalse(service.isCurrent("admin", 0));
+    }
+
+    @Test
+    void rolledBackRevocationLeavesEpochUnchanged() {
+        transaction.executeWithoutResult(status -> {
+            service.revokeAll("admin");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, service.currentEpoch("admin"));
+        assertTrue(service.isCurrent("admin", 0));
+    }
+
+    private static DataSource embeddedDatabase() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,80 @@
+package com.jwt.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.jwt.demo.entities.Authority;
+import com.jwt.demo.entities.User;
+import com.jwt.demo.jwt.TokenUserPrincipal;
+import com.jwt.demo.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * UserService.getMyUser가 기본적으로는 토큰 클레임으로 응답하고, fresh=true이면 캐시가 아닌 데이터베이스의 값으로 응답하는지 확인하는 테스트입니다.
+ */
+class UserServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCache userCache = new UserCache(userRepository, mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(), 100, 300);
+    private final UserService userService = new UserService(userRepository, mock(PasswordEncoder.class), userCache);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void defaultPathAnswersFromTokenClaimsWithoutLookup() {
+        authenticate(new TokenUserPrincipal("admin", "", AuthorityUtils.createAuthorityList("ROLE_USER"), 1L, "from-token"));
+
+        User user = userService.getMyUser(false).orElseThrow();
+
+        assertEquals(1L, user.getUserId());
+        assertEquals("from-token", user.getNickname());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void freshPathReadsDatabaseEvenWhenCacheHoldsOlderValue() {
+        authenticate(new TokenUserPrincipal("admin", "", AuthorityUtils.createAuthorityList("ROLE_USER"), 1L, "from-token"));
+        when(userRepository.findOneWithAuthoritiesByUsername("admin")).thenReturn(Optional.of(stored("cached")));
+        assertEquals("cached", userService.getUserWithAuthorities("admin").orElseThrow().getNickname()); // 캐시에 보관됨
+
+        when(userRepository.findOneWithAuthoritiesByUsername("admin")).thenReturn(Optional.of(stored("changed")));
+
+        assertEquals("changed", userService.getMyUser(true).orElseThrow().getNickname());
+        assertEquals("changed", userService.getUserWithAuthorities("admin").orElseThrow().getNickname()); // 캐시도 교체됨
+        assertEquals("from-token", userService.getMyUser(false).orElseThrow().getNickname());
+    }
+
+    private static void authenticate(TokenUserPrincipal principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, "", principal.getAuthorities()));
+    }
+
+    private static User stored(String nickname) {
+        return User.builder()
+                .userId(1L)
+                .username("admin")
+                .password("hash")
+                .nickname(nickname)
+                .activated(true)
+                .authorities(Set.of(Authority.builder().authorityName("ROLE_USER").build()))
+                .build();
+    }
+}
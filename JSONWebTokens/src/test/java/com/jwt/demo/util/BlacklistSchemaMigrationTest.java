@@ -0,0 +1,49 @@
+package com.jwt.demo.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+/**
+ * seq/created_at 컬럼이 없던 시절의 jwt_blacklist가 마이그레이션 후 전파 채널이 읽을 수 있는 형태가 되는지 확인하는 테스트입니다.
+ */
+class BlacklistSchemaMigrationTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new SimpleDriverDataSource(new org.h2.Driver(),
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    @Test
+    void addsColumnsAndBackfillsExistingRows() {
+        jdbcTemplate.execute("CREATE TABLE jwt_blacklist (jti_digest BINARY(16) NOT NULL, expired_at DATETIME NOT NULL, "
+                + "PRIMARY KEY (jti_digest), INDEX idx_jwt_blacklist_expired_at (expired_at))");
+        for (int i = 1; i <= 3; i++) {
+            insert("jti-" + i);
+        }
+
+        BlacklistSchemaMigration migration = new BlacklistSchemaMigration(jdbcTemplate);
+        migration.migrate();
+        migration.migrate(); // 두 번째 실행은 아무것도 바꾸지 않음
+
+        assertEquals(3, count("SELECT COUNT(DISTINCT seq) FROM jwt_blacklist WHERE seq > 0"));
+        assertEquals(3, count("SELECT COUNT(*) FROM jwt_blacklist WHERE created_at IS NOT NULL"));
+
+        long maxSeq = count("SELECT MAX(seq) FROM jwt_blacklist");
+        insert("jti-4");
+        assertTrue(count("SELECT seq FROM jwt_blacklist WHERE jti_digest = ?", TokenDigest.of("jti-4").toBytes()) > maxSeq);
+    }
+
+    private void insert(String jti) {
+        jdbcTemplate.update("INSERT INTO jwt_blacklist (jti_digest, expired_at) VALUES (?, ?)",
+                TokenDigest.of(jti).toBytes(), LocalDateTime.now().plusMinutes(5));
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}